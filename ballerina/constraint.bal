@@ -145,12 +145,82 @@ public type DateConstraints record {
    string message?;
 };
 
+# Represents the options of a constraint validation.
+#
+# + failFast - Whether to stop the validation at the first constraint violation. The returned error then reports only
+# the first violation found
+# + maxErrors - The maximum number of constraint violations to be reported. The validation is stopped once more
+# violations are found, and the returned error then states that the reported violations are truncated. All the
+# violations are reported if this is not provided
+public type ValidationOptions record {|
+    boolean failFast = false;
+    int? maxErrors = ();
+|};
+
 # Validates the provided value against the configured annotations. Additionally, if the type of the value is different
 # from the expected return type then the value will be cloned with the contextually expected type before the validation.
 #
 # + value - The `anydata` type value to be constrained
 # + td - The type descriptor of the value to be constrained
+# + options - The options of the validation
 # + return - The type descriptor of the value which is validated or else an `constraint:Error` in case of an error
-public isolated function validate(anydata value, typedesc<anydata> td = <>) returns td|Error = @java:Method {
+public isolated function validate(anydata value, typedesc<anydata> td = <>, *ValidationOptions options)
+        returns td|Error = @java:Method {
+    'class: "io.ballerina.stdlib.constraint.Constraints"
+} external;
+
+# Registers the constrained types of a module, so that their constraints are resolved before the first validation.
+# The compiler plugin generates a call to this function for each module with constrained types, which fails the
+# initialization of the module if the types cannot be registered. Hence it is not required to call this function
+# explicitly.
+#
+# + types - The type descriptors of the constrained types
+# + return - An `constraint:Error` in case of an error
+public isolated function registerTypes(typedesc<anydata>[] types) returns Error? = @java:Method {
     'class: "io.ballerina.stdlib.constraint.Constraints"
 } external;
+
+# Prepares a `constraint:Validator` for the provided type descriptor. The constraints of the type are resolved once
+# and reused by all the validations done with the returned validator.
+#
+# + td - The type descriptor of the values to be validated
+# + return - The `constraint:Validator` prepared for the type descriptor or else an `constraint:Error` in case of
+# an error
+public isolated function compile(typedesc<anydata> td) returns Validator|Error {
+    return new (td);
+}
+
+# Represents a validator prepared for a type descriptor.
+public isolated class Validator {
+
+    # Prepares the validator for the provided type descriptor.
+    #
+    # + td - The type descriptor of the values to be validated
+    # + return - An `constraint:Error` in case of an error
+    public isolated function init(typedesc<anydata> td) returns Error? {
+        return initValidator(self, td);
+    }
+
+    # Validates the provided value against the constraints of the prepared type descriptor. Additionally, if the type
+    # of the value is different from the prepared type descriptor then the value will be cloned with the prepared
+    # type descriptor before the validation.
+    #
+    # + value - The `anydata` type value to be constrained
+    # + options - The options of the validation
+    # + return - The value which is validated or else an `constraint:Error` in case of an error
+    public isolated function validate(anydata value, *ValidationOptions options) returns anydata|Error = @java:Method {
+        'class: "io.ballerina.stdlib.constraint.Validator"
+    } external;
+
+    # Checks whether the provided value satisfies the constraints of the prepared type descriptor.
+    #
+    # + value - The `anydata` type value to be constrained
+    # + return - `true` if the value is valid, `false` if the value is invalid or cannot be validated
+    public isolated function isValid(anydata value) returns boolean = @java:Method {
+        'class: "io.ballerina.stdlib.constraint.Validator"
+    } external;
+}
+
+isolated function initValidator(Validator validator, typedesc<anydata> td) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.constraint.Validator"
+} external;
@@ -17,8 +17,19 @@
 # Represents the generic error type of the module.
 public type Error distinct error;
 
+# Represents the details of a `constraint:ValidationError`.
+#
+# + failureCount - The number of the constraint violations found, which is more than the reported ones only if the
+# error is truncated
+# + truncated - Whether the validation was stopped as more constraint violations were found than the `maxErrors`
+# option allows, in which case only the first violations up to the limit are reported
+public type ValidationErrorDetail record {|
+    int failureCount;
+    boolean truncated;
+|};
+
 # Represents the errors occurs during constraint validations.
-public type ValidationError distinct Error;
+public type ValidationError distinct (Error & error<ValidationErrorDetail>);
 
 # Represents the errors occurs during the type conversion.
 public type TypeConversionError distinct Error;
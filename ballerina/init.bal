@@ -16,10 +16,18 @@
 
 import ballerina/jballerina.java;
 
+# Enables validating the constraints which fail the most first, when only the first failure is needed.
+configurable boolean adaptiveCheckOrdering = false;
+
 isolated function init() {
     setModule();
+    setAdaptiveCheckOrdering(adaptiveCheckOrdering);
 }
 
 isolated function setModule() = @java:Method {
     'class: "io.ballerina.stdlib.constraint.ModuleUtils"
 } external;
+
+isolated function setAdaptiveCheckOrdering(boolean adaptiveCheckOrdering) = @java:Method {
+    'class: "io.ballerina.stdlib.constraint.ModuleUtils"
+} external;
@@ -14,6 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/jballerina.java;
 import ballerina/test;
 
 // Testing multiple types of annotations in a single record
@@ -671,6 +672,17 @@ isolated function testUnionTypeDescFailure3() {
     }
 }
 
+@test:Config {}
+isolated function testUnionTypeDescArrayMembers() {
+    (Union1|Union2|Union3)[] values = [{name: "Alice"}, 6.5, {age: 16}, 5.1, {name: "Peter"}, 7.0];
+    (Union1|Union2|Union3)[]|error validation = validate(values);
+    if validation is error {
+        test:assertEquals(validation.message(), "Validation failed for '$[2].age:minValue','$[3]:minValue' constraint(s).");
+    } else {
+        test:assertFail("Expected error not found.");
+    }
+}
+
 type ColumnRecord record {|
     string name;
 |};
@@ -861,3 +873,259 @@ function testConstraintOnFieldsWithEscapeCharsFailure() {
         test:assertFail("Expected error not found.");
     }
 }
+
+type Tag record {|
+    string label;
+    Tag[] children;
+|};
+
+type Category record {|
+    @String {minLength: 1}
+    string name;
+    Category[] subCategories;
+    Tag[] tags;
+|};
+
+@test:Config {}
+function testUnconstrainedRecursiveTypeSuccess() {
+    Tag tag = {label: "", children: [{label: "", children: []}]};
+    Tag|error validation = validate(tag);
+    if validation is error {
+        test:assertFail("Unexpected error found.");
+    }
+}
+
+@test:Config {}
+function testConstrainedRecursiveTypeFailure() {
+    Category category = {
+        name: "Books",
+        subCategories: [{name: "", subCategories: [], tags: []}],
+        tags: [{label: "", children: []}]
+    };
+    Category|error validation = validate(category);
+    if validation is error {
+        test:assertEquals(validation.message(), "Validation failed for '$.subCategories[0].name:minLength' constraint(s).");
+    } else {
+        test:assertFail("Expected error not found.");
+    }
+}
+
+@test:Config {}
+function testDeeplyNestedRecursiveTypeFailure() {
+    Category category = {name: "", subCategories: [], tags: []};
+    string path = "$";
+    // Deep enough to overflow the stack of the thread if the value was traversed recursively
+    foreach int i in 0 ..< 10000 {
+        category = {name: "Books", subCategories: [category], tags: []};
+        path += ".subCategories[0]";
+    }
+    Category|error validation = validate(category);
+    if validation is error {
+        test:assertEquals(validation.message(), string `Validation failed for '${path}.name:minLength' constraint(s).`);
+    } else {
+        test:assertFail("Expected error not found.");
+    }
+}
+
+type OrderCreated record {|
+    "created" kind;
+    @String {minLength: 1}
+    string orderId;
+|};
+
+type OrderShipped record {|
+    "shipped" kind;
+    @String {minLength: 1}
+    string trackingId;
+|};
+
+type OrderCancelled record {|
+    "cancelled" kind;
+    @Int {minValue: 1}
+    int reasonCode;
+|};
+
+type OrderEvent OrderCreated|OrderShipped|OrderCancelled;
+
+@test:Config {}
+function testDiscriminatedUnionMembers() {
+    OrderEvent[] events = [
+        {kind: "created", orderId: "O-1"},
+        {kind: "shipped", trackingId: ""},
+        {kind: "cancelled", reasonCode: 0},
+        {kind: "created", orderId: ""}
+    ];
+    OrderEvent[]|error validation = validate(events);
+    if validation is error {
+        test:assertEquals(validation.message(), "Validation failed for '$[1].trackingId:minLength'," +
+        "'$[2].reasonCode:minValue','$[3].orderId:minLength' constraint(s).");
+    } else {
+        test:assertFail("Expected error not found.");
+    }
+}
+
+@Int {minValue: 0}
+type StockLevel int;
+
+@String {minLength: 1}
+type Sku string;
+
+type Warehouse record {
+    string name;
+    map<StockLevel> stock;
+};
+
+@test:Config {}
+function testMapMembers() {
+    Warehouse warehouse = {name: "Central", stock: {apples: 10, pears: -1, plums: -2}};
+    Warehouse|error validation = validate(warehouse);
+    if validation is error {
+        test:assertEquals(validation.message(), "Validation failed for '$.stock.pears:minValue'," +
+        "'$.stock.plums:minValue' constraint(s).");
+    } else {
+        test:assertFail("Expected error not found.");
+    }
+}
+
+@test:Config {}
+function testMapMembersSuccess() {
+    map<StockLevel> stock = {apples: 10, pears: 0};
+    map<StockLevel>|error validation = validate(stock);
+    if validation is error {
+        test:assertFail("Unexpected error found.");
+    }
+}
+
+type StockItem record {|
+    readonly Sku sku;
+    StockLevel quantity;
+|};
+
+@test:Config {}
+function testTableMembers() {
+    table<StockItem> key(sku) items = table [
+        {sku: "A-1", quantity: 5},
+        {sku: "", quantity: 2},
+        {sku: "C-3", quantity: -1}
+    ];
+    table<StockItem> key(sku)|error validation = validate(items);
+    if validation is error {
+        test:assertEquals(validation.message(), "Validation failed for '$[1].sku:minLength'," +
+        "'$[2].quantity:minValue' constraint(s).");
+    } else {
+        test:assertFail("Expected error not found.");
+    }
+}
+
+type StockEntry [Sku, StockLevel, StockLevel...];
+
+@test:Config {}
+function testTupleMembers() {
+    StockEntry entry = ["", 5, 1, -3];
+    StockEntry|error validation = validate(entry);
+    if validation is error {
+        test:assertEquals(validation.message(), "Validation failed for '$[0]:minLength','$[3]:minValue' " +
+        "constraint(s).");
+    } else {
+        test:assertFail("Expected error not found.");
+    }
+}
+
+@test:Config {}
+function testFailFastOnNestedMembers() {
+    OrderEvent[] events = [
+        {kind: "created", orderId: "O-1"},
+        {kind: "shipped", trackingId: ""},
+        {kind: "cancelled", reasonCode: 0}
+    ];
+    OrderEvent[]|error validation = validate(events, failFast = true);
+    if validation is error {
+        test:assertEquals(validation.message(), "Validation failed for '$[1].trackingId:minLength' constraint(s).");
+    } else {
+        test:assertFail("Expected error not found.");
+    }
+}
+
+@test:Config {}
+function testFailFastWithCompiledValidator() returns error? {
+    Validator validator = check compile(Warehouse);
+    anydata|error validation = validator.validate({name: "Central", stock: {apples: -1, pears: -2}}, failFast = true);
+    if validation is error {
+        test:assertEquals(validation.message(), "Validation failed for '$.stock.apples:minValue' constraint(s).");
+    } else {
+        test:assertFail("Expected error not found.");
+    }
+    test:assertFalse(validator.isValid({name: "Central", stock: {apples: -1, pears: -2}}));
+}
+
+type PlainNote record {|
+    "plain" kind;
+    @String {minLength: 1}
+    string text;
+|};
+
+type SignedNote record {|
+    "signed" kind;
+    @String {minLength: 10}
+    string text;
+|};
+
+type Note PlainNote|SignedNote;
+
+@test:Config {}
+function testDiscriminatedReadOnlyUnionMembers() {
+    // The members have the same fields, and the read-only values do not have the member types, hence only the
+    // discriminator field resolves the second member for the second value
+    (Note & readonly)[] notes = [{kind: "plain", text: "Hi"}, {kind: "signed", text: "Hi"}];
+    (Note & readonly)[]|error validation = validate(notes);
+    if validation is error {
+        test:assertEquals(validation.message(), "Validation failed for '$[1].text:minLength' constraint(s).");
+    } else {
+        test:assertFail("Expected error not found.");
+    }
+}
+
+type Restock record {|
+    @String {minLength: 2}
+    string name;
+    @Int {minValue: 1}
+    int quantity;
+|};
+
+function getValidationMessage(Validator validator, anydata value, boolean failFast) returns string {
+    anydata|Error validation = validator.validate(value, failFast = failFast);
+    return validation is Error ? validation.message() : "";
+}
+
+// The adaptive ordering only affects the plans built while it is enabled, hence the cached plans are dropped along
+// with it, so that the other tests do not depend on the order of the tests
+function disableAdaptiveCheckOrdering() {
+    setAdaptiveCheckOrdering(false);
+    clearValidationPlans();
+}
+
+function clearValidationPlans() = @java:Method {
+    name: "clear",
+    'class: "io.ballerina.stdlib.constraint.plan.ValidationPlanCache"
+} external;
+
+@test:Config {after: disableAdaptiveCheckOrdering}
+function testAdaptiveCheckOrdering() returns error? {
+    // The profiles of the failures are created when the validator is compiled
+    setAdaptiveCheckOrdering(true);
+    Validator validator = check compile(Restock);
+
+    Restock invalid = {name: "", quantity: 0};
+    test:assertEquals(getValidationMessage(validator, invalid, true),
+            "Validation failed for '$.name:minLength' constraint(s).");
+    // Enough failures of the second field to validate it first
+    foreach int i in 0 ..< 256 {
+        test:assertEquals(getValidationMessage(validator, {name: "Bolts", quantity: 0}, true),
+                "Validation failed for '$.quantity:minValue' constraint(s).");
+    }
+    test:assertEquals(getValidationMessage(validator, invalid, true),
+            "Validation failed for '$.quantity:minValue' constraint(s).");
+    test:assertEquals(getValidationMessage(validator, invalid, false),
+            "Validation failed for '$.name:minLength','$.quantity:minValue' constraint(s).");
+    test:assertEquals(getValidationMessage(validator, {name: "Bolts", quantity: 5}, true), "");
+}
@@ -154,3 +154,135 @@ function testConstraintsOnRecordArrayMemberFailure() {
         test:assertFail("Unexpected error found.");
     }
 }
+
+@Int {minValue: 1, maxValue: 100}
+type Score int;
+
+@Float {minValueExclusive: 0.0}
+type Weight float;
+
+@test:Config {}
+function testConstraintsOnArrayIntMembers() {
+    Score[] scores = [1, 50, 100];
+    Score[]|error validation1 = validate(scores);
+    if validation1 is error {
+        test:assertFail("Unexpected error found.");
+    }
+
+    Score[]|error validation2 = validate([0, 50, 101]);
+    if validation2 is error {
+        test:assertEquals(validation2.message(), "Validation failed for '$[0]:minValue','$[2]:maxValue' constraint(s).");
+    } else {
+        test:assertFail("Expected error not found.");
+    }
+}
+
+@test:Config {}
+function testConstraintsOnArrayFloatMembers() {
+    Weight[] weights = [0.5, 10.0];
+    Weight[]|error validation1 = validate(weights);
+    if validation1 is error {
+        test:assertFail("Unexpected error found.");
+    }
+
+    Weight[]|error validation2 = validate([0.5, 0.0, -1.0]);
+    if validation2 is error {
+        test:assertEquals(validation2.message(), "Validation failed for '$[1]:minValueExclusive','$[2]:minValueExclusive' constraint(s).");
+    } else {
+        test:assertFail("Expected error not found.");
+    }
+}
+
+@test:Config {}
+function testConstraintsOnLargeArrayNumericMembers() {
+    Score[] scores = [];
+    Weight[] weights = [];
+    foreach int i in 0 ..< 2000 {
+        scores.push(i % 100 + 1);
+        weights.push(<float>i + 0.5);
+    }
+    Score[]|error validation1 = validate(scores);
+    if validation1 is error {
+        test:assertFail("Unexpected error found.");
+    }
+    Weight[]|error validation2 = validate(weights);
+    if validation2 is error {
+        test:assertFail("Unexpected error found.");
+    }
+
+    scores[1500] = 0;
+    weights[1999] = float:NaN;
+    Score[]|error validation3 = validate(scores);
+    if validation3 is error {
+        test:assertEquals(validation3.message(), "Validation failed for '$[1500]:minValue' constraint(s).");
+    } else {
+        test:assertFail("Expected error not found.");
+    }
+    Weight[]|error validation4 = validate(weights);
+    if validation4 is error {
+        test:assertEquals(validation4.message(), "Validation failed for '$[1999]:minValueExclusive' constraint(s).");
+    } else {
+        test:assertFail("Expected error not found.");
+    }
+}
+
+@test:Config {}
+function testFailFastOnArrayMembers() {
+    Score[] scores = [];
+    foreach int i in 0 ..< 2000 {
+        scores.push(i % 500 == 499 ? -1 : 50);
+    }
+    Score[]|error validation = validate(scores, failFast = true);
+    if validation is error {
+        test:assertEquals(validation.message(), "Validation failed for '$[499]:minValue' constraint(s).");
+    } else {
+        test:assertFail("Expected error not found.");
+    }
+}
+
+@test:Config {}
+function testMaxErrorsOnArrayMembers() {
+    Score[] scores = [];
+    foreach int i in 0 ..< 2000 {
+        scores.push(i % 10 == 9 ? -1 : 50);
+    }
+    Score[]|error validation = validate(scores, maxErrors = 3);
+    if validation is error {
+        test:assertEquals(validation.message(), "Validation failed for '$[19]:minValue','$[29]:minValue'," +
+        "'$[9]:minValue' constraint(s). The validation was stopped after 4 failed constraint(s), of which the " +
+        "first 3 are reported.");
+        test:assertTrue(validation is ValidationError);
+        if validation is ValidationError {
+            test:assertEquals(validation.detail(), {failureCount: 4, truncated: true});
+        }
+    } else {
+        test:assertFail("Expected error not found.");
+    }
+}
+
+@test:Config {}
+function testMaxErrorsNotExceeded() {
+    Score[] scores = [50, -1, 50, 101];
+    Score[]|error validation = validate(scores, maxErrors = 2);
+    if validation is error {
+        test:assertEquals(validation.message(), "Validation failed for '$[1]:minValue','$[3]:maxValue' " +
+        "constraint(s).");
+        test:assertTrue(validation is ValidationError);
+        if validation is ValidationError {
+            test:assertEquals(validation.detail(), {failureCount: 2, truncated: false});
+        }
+    } else {
+        test:assertFail("Expected error not found.");
+    }
+}
+
+@test:Config {}
+function testInvalidMaxErrors() {
+    Score[] scores = [50, -1];
+    Score[]|error validation = validate(scores, maxErrors = 0);
+    if validation is error {
+        test:assertEquals(validation.message(), "The maxErrors option must be a positive integer.");
+    } else {
+        test:assertFail("Expected error not found.");
+    }
+}
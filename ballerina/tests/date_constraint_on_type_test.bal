@@ -14,6 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/jballerina.java;
 import ballerina/time;
 import ballerina/test;
 
@@ -674,3 +675,100 @@ function testDatePastOrPresentFailure2() {
         test:assertFail("Expected error not found.");
     }
 }
+
+@test:Config {}
+function testDateConstraintOnArrayMembersWithLeapDays() {
+    DateConstraintSimpleOnTimeDateType[] dates = [
+        {year: 2000, month: 2, day: 29},
+        {year: 1900, month: 2, day: 29},
+        {year: 2024, month: 2, day: 29},
+        {year: 2023, month: 4, day: 31}
+    ];
+    DateConstraintSimpleOnTimeDateType[]|error validation = validate(dates);
+    if validation is error {
+        test:assertEquals(validation.message(), "Validation failed for '$[1].day:validDate','$[3].day:validDate' constraint(s).");
+    } else {
+        test:assertFail("Expected error not found.");
+    }
+}
+
+// Pins the current date of the date constraints to the given date in UTC
+function pinToday(string date) {
+    setDateClock(getFixedClock(parseInstant(java:fromString(date + "T12:00:00Z")), getUtcZone()));
+}
+
+function restoreToday() {
+    setDateClock(getSystemDefaultClock());
+}
+
+function setDateClock(handle clock) = @java:Method {
+    name: "setClock",
+    'class: "io.ballerina.stdlib.constraint.validators.DateClock"
+} external;
+
+function parseInstant(handle text) returns handle = @java:Method {
+    name: "parse",
+    'class: "java.time.Instant"
+} external;
+
+function getFixedClock(handle instant, handle zone) returns handle = @java:Method {
+    name: "fixed",
+    'class: "java.time.Clock"
+} external;
+
+function getSystemDefaultClock() returns handle = @java:Method {
+    name: "systemDefaultZone",
+    'class: "java.time.Clock"
+} external;
+
+function getUtcZone() returns handle = @java:FieldGet {
+    name: "UTC",
+    'class: "java.time.ZoneOffset"
+} external;
+
+function getDateValidationMessage(typedesc<anydata> td, time:Date date) returns string {
+    anydata|error validation = validate(date, td);
+    return validation is error ? validation.message() : "";
+}
+
+@test:Config {after: restoreToday}
+function testDateConstraintsWithPinnedToday() {
+    pinToday("2024-06-15");
+    time:Date yesterday = {year: 2024, month: 6, day: 14};
+    time:Date today = {year: 2024, month: 6, day: 15};
+    time:Date tomorrow = {year: 2024, month: 6, day: 16};
+
+    test:assertEquals(getDateValidationMessage(DateConstraintPastOnTimeDateType, yesterday), "");
+    test:assertEquals(getDateValidationMessage(DateConstraintPastOnTimeDateType, today),
+            "Validation failed for '$:pastDate' constraint(s).");
+    test:assertEquals(getDateValidationMessage(DateConstraintPastOrPresentOnTimeDateType, today), "");
+    test:assertEquals(getDateValidationMessage(DateConstraintPastOrPresentOnTimeDateType, tomorrow),
+            "Validation failed for '$:pastOrPresentDate' constraint(s).");
+    test:assertEquals(getDateValidationMessage(DateConstraintFutureOnTimeDateType, tomorrow), "");
+    test:assertEquals(getDateValidationMessage(DateConstraintFutureOnTimeDateType, today),
+            "Validation failed for '$:futureDate' constraint(s).");
+    test:assertEquals(getDateValidationMessage(DateConstraintFutureOrPresentOnTimeDateType, today), "");
+    test:assertEquals(getDateValidationMessage(DateConstraintFutureOrPresentOnTimeDateType, yesterday),
+            "Validation failed for '$:futureOrPresentDate' constraint(s).");
+}
+
+type DateConstraintPastOnTimeDateTypes DateConstraintPastOnTimeDateType[];
+
+@test:Config {after: restoreToday}
+function testDateConstraintsConsistentlyWithPinnedToday() returns error? {
+    pinToday("2024-06-15");
+    time:Date[] dates = [{year: 2024, month: 6, day: 14}, {year: 2024, month: 6, day: 15}];
+    test:assertEquals(check validateConsistently(DateConstraintPastOnTimeDateTypes, dates),
+            "Validation failed for '$[1]:pastDate' constraint(s).");
+}
+
+@test:Config {after: restoreToday}
+function testDateConstraintsFollowTheChangedToday() {
+    time:Date date = {year: 2024, month: 6, day: 15};
+    pinToday("2024-06-15");
+    test:assertEquals(getDateValidationMessage(DateConstraintPastOnTimeDateType, date),
+            "Validation failed for '$:pastDate' constraint(s).");
+    // The current date is read again by the next validation
+    pinToday("2024-06-16");
+    test:assertEquals(getDateValidationMessage(DateConstraintPastOnTimeDateType, date), "");
+}
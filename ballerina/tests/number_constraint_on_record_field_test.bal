@@ -457,3 +457,35 @@ isolated function testNumberConstraintOnUnionRecordFieldFailure8() {
         test:assertFail("Expected error not found.");
     }
 }
+
+type NumberConstraintPreciseMaxValueOnRecordField record {
+    @Number {
+        maxValue: 1000000000000000.01
+    }
+    decimal amount;
+    @Number {
+        maxValueExclusive: 9007199254740993
+    }
+    int count;
+};
+
+@test:Config {}
+isolated function testNumberConstraintPreciseMaxValueOnRecordFieldSuccess() {
+    NumberConstraintPreciseMaxValueOnRecordField rec = {amount: 1000000000000000.01d, count: 9007199254740992};
+    NumberConstraintPreciseMaxValueOnRecordField|error validation = validate(rec);
+    if validation is error {
+        test:assertFail("Unexpected error found.");
+    }
+}
+
+@test:Config {}
+isolated function testNumberConstraintPreciseMaxValueOnRecordFieldFailure() {
+    NumberConstraintPreciseMaxValueOnRecordField rec = {amount: 1000000000000000.02d, count: 9007199254740993};
+    NumberConstraintPreciseMaxValueOnRecordField|error validation = validate(rec);
+    if validation is error {
+        test:assertEquals(validation.message(), "Validation failed for '$.amount:maxValue'," +
+            "'$.count:maxValueExclusive' constraint(s).");
+    } else {
+        test:assertFail("Expected error not found.");
+    }
+}
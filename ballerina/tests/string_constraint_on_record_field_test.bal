@@ -247,3 +247,31 @@ isolated function testStringConstraintOnRecordFieldFailure4() {
         test:assertFail("Expected error not found.");
     }
 }
+
+type StringConstraintLengthOnSupplementaryCharacters record {
+    @String {
+        minLength: 2,
+        maxLength: 3
+    }
+    string value;
+};
+
+@test:Config {}
+isolated function testStringConstraintLengthOnSupplementaryCharactersSuccess() {
+    StringConstraintLengthOnSupplementaryCharacters rec = {value: "😀😀😀"};
+    StringConstraintLengthOnSupplementaryCharacters|error validation = validate(rec);
+    if validation is error {
+        test:assertFail("Unexpected error found.");
+    }
+}
+
+@test:Config {}
+isolated function testStringConstraintLengthOnSupplementaryCharactersFailure() {
+    StringConstraintLengthOnSupplementaryCharacters rec = {value: "😀"};
+    StringConstraintLengthOnSupplementaryCharacters|error validation = validate(rec);
+    if validation is error {
+        test:assertEquals(validation.message(), "Validation failed for '$.value:minLength' constraint(s).");
+    } else {
+        test:assertFail("Expected error not found.");
+    }
+}
@@ -0,0 +1,116 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+import ballerina/time;
+
+@Int {minValue: 1, maxValue: 10}
+type CheckedInt int;
+
+@Float {minValueExclusive: 0.0}
+type CheckedFloat float;
+
+@Number {maxValue: 1.5}
+type CheckedNumber decimal;
+
+type CheckedString record {|
+    @String {minLength: 3, maxLength: 5}
+    string name;
+    @String {pattern: re `[0-9]+`}
+    string code;
+|};
+
+@String {pattern: re `[a-z]+`, minLength: 5}
+type CheckedCode string;
+
+@Array {minLength: 2}
+type CheckedArray int[];
+
+@Date {option: PAST}
+type CheckedPastDate time:Date;
+
+@Date
+type CheckedDate time:Date;
+
+@String {maxLength: 0}
+type CheckedInvalidLength string;
+
+// Validates the value with the validate function and a compiled validator, and checks that both fail the same,
+// including the repeated validations with the same plan
+function validateConsistently(typedesc<anydata> td, anydata value, boolean failFast = false) returns string|error {
+    Validator validator = check compile(td);
+    anydata|Error compiledValidation = validator.validate(value, failFast = failFast);
+    string expectedMessage = compiledValidation is Error ? compiledValidation.message() : "";
+    foreach int i in 0 ..< 2 {
+        anydata|Error validation = validate(value, td, failFast = failFast);
+        test:assertEquals(validation is Error ? validation.message() : "", expectedMessage);
+        validation = validator.validate(value, failFast = failFast);
+        test:assertEquals(validation is Error ? validation.message() : "", expectedMessage);
+    }
+    return expectedMessage;
+}
+
+@test:Config {}
+function testIntConstraintsConsistently() returns error? {
+    test:assertEquals(check validateConsistently(CheckedInt, 0), "Validation failed for '$:minValue' constraint(s).");
+    test:assertEquals(check validateConsistently(CheckedInt, 5), "");
+}
+
+@test:Config {}
+function testFloatConstraintsConsistently() returns error? {
+    test:assertEquals(check validateConsistently(CheckedFloat, 0.0),
+            "Validation failed for '$:minValueExclusive' constraint(s).");
+}
+
+@test:Config {}
+function testNumberConstraintsConsistently() returns error? {
+    test:assertEquals(check validateConsistently(CheckedNumber, 2.5d), "Validation failed for '$:maxValue' constraint(s).");
+}
+
+@test:Config {}
+function testStringConstraintsConsistently() returns error? {
+    CheckedString value = {name: "abcdefg", code: "x1"};
+    test:assertEquals(check validateConsistently(CheckedString, value),
+            "Validation failed for '$.code:pattern','$.name:maxLength' constraint(s).");
+}
+
+@test:Config {}
+function testFailFastStringConstraintsConsistently() returns error? {
+    // The cheaper length constraint is checked ahead of the pattern declared before it
+    test:assertEquals(check validateConsistently(CheckedCode, "AB", failFast = true),
+            "Validation failed for '$:minLength' constraint(s).");
+    test:assertEquals(check validateConsistently(CheckedCode, "AB"),
+            "Validation failed for '$:minLength','$:pattern' constraint(s).");
+}
+
+@test:Config {}
+function testArrayConstraintsConsistently() returns error? {
+    test:assertEquals(check validateConsistently(CheckedArray, [1]), "Validation failed for '$:minLength' constraint(s).");
+}
+
+@test:Config {}
+function testDateConstraintsConsistently() returns error? {
+    test:assertEquals(check validateConsistently(CheckedPastDate, {year: 3000, month: 1, day: 1}),
+            "Validation failed for '$:pastDate' constraint(s).");
+    test:assertEquals(check validateConsistently(CheckedDate, {year: 2023, month: 2, day: 29}),
+            "Validation failed for '$.day:validDate' constraint(s).");
+}
+
+@test:Config {}
+function testInvalidLengthConstraintConsistently() returns error? {
+    test:assertEquals(check validateConsistently(CheckedInvalidLength, "abc"),
+            "invalid value found for $:maxLength constraint. Length constraints should be positive");
+}
@@ -0,0 +1,115 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+type CompiledUser record {|
+    @String {
+        minLength: 5,
+        maxLength: 8
+    }
+    string name;
+    @Int {
+        minValue: 18
+    }
+    int age;
+|};
+
+@test:Config {}
+isolated function testCompiledValidatorSuccess() returns error? {
+    Validator validator = check compile(CompiledUser);
+    anydata validated = check validator.validate({name: "Steve", age: 18});
+    test:assertTrue(validated is CompiledUser);
+    test:assertTrue(validator.isValid({name: "James", age: 20}));
+}
+
+@test:Config {}
+isolated function testCompiledValidatorFailure() returns error? {
+    Validator validator = check compile(CompiledUser);
+    anydata|Error validation = validator.validate({name: "Joe", age: 16});
+    if validation is Error {
+        test:assertEquals(validation.message(), "Validation failed for '$.age:minValue','$.name:minLength' constraint(s).");
+    } else {
+        test:assertFail("Expected error not found.");
+    }
+    test:assertFalse(validator.isValid({name: "Joe", age: 16}));
+}
+
+@test:Config {}
+isolated function testCompiledValidatorTypeConversionFailure() returns error? {
+    Validator validator = check compile(CompiledUser);
+    anydata|Error validation = validator.validate({name: "Steve"});
+    if validation is TypeConversionError {
+        test:assertEquals(validation.message(), "Type conversion failed due to typedesc and value mismatch.");
+    } else {
+        test:assertFail("Expected error not found.");
+    }
+    test:assertFalse(validator.isValid({name: "Steve"}));
+}
+
+@test:Config {}
+isolated function testCompiledValidatorReuse() returns error? {
+    Validator validator = check compile(CompiledUser);
+    foreach int age in 18 ... 25 {
+        test:assertTrue(validator.isValid({name: "Steve", age}));
+    }
+    test:assertFalse(validator.isValid({name: "Steve", age: 17}));
+}
+
+@test:Config {}
+isolated function testRegisteredTypeValidation() returns error? {
+    check registerTypes([CompiledUser]);
+    CompiledUser user = check validate({name: "Steve", age: 18});
+    test:assertEquals(user.name, "Steve");
+    CompiledUser|Error validation = validate({name: "Steve", age: 16});
+    if validation is Error {
+        test:assertEquals(validation.message(), "Validation failed for '$.age:minValue' constraint(s).");
+    } else {
+        test:assertFail("Expected error not found.");
+    }
+}
+
+type RegisteredReading record {|
+    @Int {
+        minValueExclusive: 0,
+        maxValue: 100
+    }
+    int sequence;
+    @Float {
+        minValue: -10.5,
+        maxValueExclusive: 50.0
+    }
+    float temperature;
+    @Number {
+        minValue: 0,
+        maxValue: 1
+    }
+    decimal humidity;
+|};
+
+@test:Config {}
+isolated function testRegisteredTypeValueConstraints() returns error? {
+    check registerTypes([RegisteredReading]);
+    RegisteredReading reading = check validate({sequence: 100, temperature: -10.5, humidity: 1d});
+    test:assertEquals(reading.sequence, 100);
+    RegisteredReading|Error validation = validate({sequence: 0, temperature: 50.0, humidity: 1.5d});
+    if validation is Error {
+        test:assertEquals(validation.message(), "Validation failed for '$.humidity:maxValue'," +
+            "'$.sequence:minValueExclusive','$.temperature:maxValueExclusive' constraint(s).");
+    } else {
+        test:assertFail("Expected error not found.");
+    }
+}
@@ -19,11 +19,16 @@
 package io.ballerina.stdlib.constraint.compiler;
 
 import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+
 import static io.ballerina.stdlib.constraint.compiler.CompilerPluginTestConstants.ANNOTATION_TAG_ARRAY;
 import static io.ballerina.stdlib.constraint.compiler.CompilerPluginTestConstants.ANNOTATION_TAG_DATE;
 import static io.ballerina.stdlib.constraint.compiler.CompilerPluginTestConstants.ANNOTATION_TAG_FLOAT;
@@ -315,4 +320,42 @@ public class CompilerPluginTest {
         CompilerPluginTestUtils.assertError101(diagnosticResult, 3, ANNOTATION_TAG_DATE, "CustomRecord");
         CompilerPluginTestUtils.assertError101(diagnosticResult, 4, ANNOTATION_TAG_DATE, TYPE_RECORD);
     }
+
+    @Test
+    public void testConstrainedTypeRegistryGeneration() {
+        Package currentPackage = CompilerPluginTestUtils.loadPackage("sample_package_21");
+        DiagnosticResult diagnosticResult = currentPackage.runCodeGenAndModifyPlugins();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        Package modifiedPackage = currentPackage.project().currentPackage();
+        Assert.assertEquals(modifiedPackage.getCompilation().diagnosticResult().errorCount(), 0);
+        String registry = getRegistry(modifiedPackage);
+        Assert.assertNotNull(registry);
+        Assert.assertTrue(registry.contains("constraint:registerTypes([User, Age])"));
+    }
+
+    @Test
+    public void testConstrainedTypeRegistryWithImportPrefix() throws IOException, InterruptedException {
+        Package currentPackage = CompilerPluginTestUtils.loadPackage("sample_package_22");
+        DiagnosticResult diagnosticResult = currentPackage.runCodeGenAndModifyPlugins();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        Package modifiedPackage = currentPackage.project().currentPackage();
+        PackageCompilation compilation = modifiedPackage.getCompilation();
+        Assert.assertEquals(compilation.diagnosticResult().errorCount(), 0);
+        String registry = getRegistry(modifiedPackage);
+        Assert.assertNotNull(registry);
+        Assert.assertTrue(registry.contains("constraint:registerTypes([Person, Score])"));
+        // The package validates the values once the registry is initialized, and fails if the validation differs
+        CompilerPluginTestUtils.runPackage(compilation);
+    }
+
+    private static String getRegistry(Package modifiedPackage) {
+        Module defaultModule = modifiedPackage.getDefaultModule();
+        for (DocumentId documentId : defaultModule.documentIds()) {
+            Document document = defaultModule.document(documentId);
+            if (document.name().startsWith(ConstrainedTypeRegistryGenerator.REGISTRY_FILE_PREFIX)) {
+                return document.textDocument().toString();
+            }
+        }
+        return null;
+    }
 }
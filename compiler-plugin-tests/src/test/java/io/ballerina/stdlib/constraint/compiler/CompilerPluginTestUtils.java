@@ -19,7 +19,11 @@
 package io.ballerina.stdlib.constraint.compiler;
 
 import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.EmitResult;
+import io.ballerina.projects.JBallerinaBackend;
+import io.ballerina.projects.JvmTarget;
 import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.ProjectEnvironmentBuilder;
 import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.projects.environment.Environment;
@@ -27,6 +31,9 @@ import io.ballerina.projects.environment.EnvironmentBuilder;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import org.testng.Assert;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -53,6 +60,18 @@ public class CompilerPluginTestUtils {
         return project.currentPackage();
     }
 
+    static void runPackage(PackageCompilation compilation) throws IOException, InterruptedException {
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_11);
+        Path executablePath = Files.createTempDirectory("constraint-compiler-plugin-test").resolve("package.jar");
+        EmitResult emitResult = jBallerinaBackend.emit(JBallerinaBackend.OutputType.EXEC, executablePath);
+        Assert.assertTrue(emitResult.successful());
+        Path javaPath = Paths.get(System.getProperty("java.home"), "bin", "java");
+        Process process = new ProcessBuilder(javaPath.toString(), "-jar", executablePath.toString())
+                .redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        Assert.assertEquals(process.waitFor(), 0, output);
+    }
+
     static void assertError101(DiagnosticResult diagnosticResult, int index, String annotationTag, String fieldType) {
         Diagnostic diagnostic = (Diagnostic) diagnosticResult.errors().toArray()[index];
         Assert.assertEquals(diagnostic.diagnosticInfo().messageFormat(),
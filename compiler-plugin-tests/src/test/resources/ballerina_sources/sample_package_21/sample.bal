@@ -0,0 +1,42 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/constraint;
+
+type User record {
+    @constraint:String {
+        minLength: 1
+    }
+    string name;
+    int age = 18;
+};
+
+@constraint:Int {
+    minValue: 0
+}
+type Age int;
+
+type Address record {
+    string city;
+};
+
+type Job record {|
+    @constraint:Int {
+        minValue: 0
+    }
+    int retries;
+    function () returns error? task;
+|};
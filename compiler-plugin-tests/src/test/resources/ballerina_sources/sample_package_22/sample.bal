@@ -0,0 +1,44 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/constraint as c;
+
+type Person record {|
+    @c:String {
+        minLength: 1
+    }
+    string name;
+    Score score;
+|};
+
+@c:Int {
+    minValue: 0
+}
+type Score int;
+
+public function main() returns error? {
+    Person person = check c:validate({name: "Alice", score: 10});
+    if person.name != "Alice" {
+        return error("Unexpected value found.");
+    }
+    Person|c:Error validation = c:validate({name: "", score: -1});
+    if validation !is c:ValidationError {
+        return error("Expected validation error not found.");
+    }
+    if validation.message() != "Validation failed for '$.name:minLength','$.score:minValue' constraint(s)." {
+        return error("Unexpected validation error found: " + validation.message());
+    }
+}
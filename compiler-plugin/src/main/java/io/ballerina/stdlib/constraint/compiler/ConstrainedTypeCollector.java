@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.compiler;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.ModuleSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.TypeDefinitionSymbol;
+import io.ballerina.compiler.syntax.tree.AnnotationNode;
+import io.ballerina.compiler.syntax.tree.MetadataNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.RecordFieldNode;
+import io.ballerina.compiler.syntax.tree.RecordFieldWithDefaultValueNode;
+import io.ballerina.compiler.syntax.tree.RecordTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.plugins.AnalysisTask;
+import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static io.ballerina.stdlib.constraint.compiler.Constants.MODULE_NAME;
+import static io.ballerina.stdlib.constraint.compiler.Constants.PACKAGE_NAME;
+
+/**
+ * Collects the type definitions of each module which have Ballerina Constraint annotations on the type or on the
+ * fields of the record type.
+ */
+public class ConstrainedTypeCollector implements AnalysisTask<SyntaxNodeAnalysisContext> {
+
+    private final Map<ModuleId, List<String>> constrainedTypes;
+
+    ConstrainedTypeCollector(Map<ModuleId, List<String>> constrainedTypes) {
+        this.constrainedTypes = constrainedTypes;
+    }
+
+    @Override
+    public void perform(SyntaxNodeAnalysisContext syntaxNodeAnalysisContext) {
+        SemanticModel semanticModel = syntaxNodeAnalysisContext.semanticModel();
+        boolean erroneousCompilation = semanticModel.diagnostics().stream()
+                .anyMatch(d -> d.diagnosticInfo().severity().equals(DiagnosticSeverity.ERROR));
+        if (erroneousCompilation) {
+            return;
+        }
+        ModuleId moduleId = syntaxNodeAnalysisContext.moduleId();
+        if (syntaxNodeAnalysisContext.currentPackage().module(moduleId).testDocumentIds()
+                .contains(syntaxNodeAnalysisContext.documentId())) {
+            return;
+        }
+        TypeDefinitionNode typeDefinitionNode = (TypeDefinitionNode) syntaxNodeAnalysisContext.node();
+        if (!hasConstraints(semanticModel, typeDefinitionNode.metadata()) &&
+                !hasFieldConstraints(semanticModel, typeDefinitionNode)) {
+            return;
+        }
+        Optional<Symbol> optionalTypeSymbol = semanticModel.symbol(typeDefinitionNode);
+        if (optionalTypeSymbol.isEmpty() || !(optionalTypeSymbol.get() instanceof TypeDefinitionSymbol)) {
+            return;
+        }
+        // Only the `anydata` types can be validated, hence registering any other type would fail the compilation
+        TypeDefinitionSymbol typeDefinitionSymbol = (TypeDefinitionSymbol) optionalTypeSymbol.get();
+        if (!typeDefinitionSymbol.typeDescriptor().subtypeOf(semanticModel.types().ANYDATA)) {
+            return;
+        }
+        constrainedTypes.computeIfAbsent(moduleId, id -> new ArrayList<>())
+                .add(typeDefinitionNode.typeName().text());
+    }
+
+    private static boolean hasFieldConstraints(SemanticModel semanticModel, TypeDefinitionNode typeDefinitionNode) {
+        Node typeDescriptor = typeDefinitionNode.typeDescriptor();
+        if (!(typeDescriptor instanceof RecordTypeDescriptorNode)) {
+            return false;
+        }
+        for (Node field : ((RecordTypeDescriptorNode) typeDescriptor).fields()) {
+            if (field instanceof RecordFieldNode &&
+                    hasConstraints(semanticModel, ((RecordFieldNode) field).metadata())) {
+                return true;
+            } else if (field instanceof RecordFieldWithDefaultValueNode &&
+                    hasConstraints(semanticModel, ((RecordFieldWithDefaultValueNode) field).metadata())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasConstraints(SemanticModel semanticModel, Optional<MetadataNode> optionalMetadataNode) {
+        if (optionalMetadataNode.isEmpty()) {
+            return false;
+        }
+        for (AnnotationNode annotationNode : optionalMetadataNode.get().annotations()) {
+            if (isConstraintAnnotation(semanticModel, annotationNode)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // The annotation is resolved to its module, as the module may be imported with a different prefix
+    private static boolean isConstraintAnnotation(SemanticModel semanticModel, AnnotationNode annotationNode) {
+        Optional<ModuleSymbol> optionalModuleSymbol = semanticModel.symbol(annotationNode).flatMap(Symbol::getModule);
+        if (optionalModuleSymbol.isEmpty()) {
+            return false;
+        }
+        ModuleSymbol moduleSymbol = optionalModuleSymbol.get();
+        return moduleSymbol.id().orgName().equals(PACKAGE_NAME) && moduleSymbol.id().moduleName().equals(MODULE_NAME);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.compiler;
+
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.plugins.ModifierTask;
+import io.ballerina.projects.plugins.SourceModifierContext;
+import io.ballerina.tools.text.TextDocuments;
+
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.stdlib.constraint.compiler.Constants.MODULE_NAME;
+import static io.ballerina.stdlib.constraint.compiler.Constants.PACKAGE_NAME;
+
+/**
+ * Generates a source file for each module with constrained types, which registers the types with the Ballerina
+ * Constraint package at the module initialization. The generated source imports the package with its default prefix,
+ * as the imports are scoped to the source file. The initialization of the module fails if the types cannot be
+ * registered.
+ */
+public class ConstrainedTypeRegistryGenerator implements ModifierTask<SourceModifierContext> {
+
+    static final String REGISTRY_FILE_PREFIX = "constraint_type_registry";
+    private static final String REGISTRY_VARIABLE = "__constraintTypeRegistry";
+
+    private final Map<ModuleId, List<String>> constrainedTypes;
+
+    ConstrainedTypeRegistryGenerator(Map<ModuleId, List<String>> constrainedTypes) {
+        this.constrainedTypes = constrainedTypes;
+    }
+
+    @Override
+    public void modify(SourceModifierContext sourceModifierContext) {
+        if (!sourceModifierContext.compilation().diagnosticResult().hasErrors()) {
+            for (Map.Entry<ModuleId, List<String>> entry : constrainedTypes.entrySet()) {
+                String source = generateRegistry(entry.getValue());
+                sourceModifierContext.addSourceFile(TextDocuments.from(source), REGISTRY_FILE_PREFIX, entry.getKey());
+            }
+        }
+        constrainedTypes.clear();
+    }
+
+    static String generateRegistry(List<String> typeNames) {
+        return "import " + PACKAGE_NAME + "/" + MODULE_NAME + ";\n\n" +
+                "final () " + REGISTRY_VARIABLE + " = check " + MODULE_NAME + ":registerTypes([" +
+                String.join(", ", typeNames) + "]);\n";
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.compiler;
+
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.plugins.CodeModifier;
+import io.ballerina.projects.plugins.CodeModifierContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code CodeModifier} for Ballerina Constraint package. It registers the constrained types of each module, so
+ * that their constraints are resolved when the module is initialized instead of on the first validation.
+ */
+public class ConstraintCodeModifier extends CodeModifier {
+
+    private final Map<ModuleId, List<String>> constrainedTypes = new ConcurrentHashMap<>();
+
+    @Override
+    public void init(CodeModifierContext codeModifierContext) {
+        codeModifierContext.addSyntaxNodeAnalysisTask(new ConstrainedTypeCollector(constrainedTypes),
+                SyntaxKind.TYPE_DEFINITION);
+        codeModifierContext.addSourceModifierTask(new ConstrainedTypeRegistryGenerator(constrainedTypes));
+    }
+}
@@ -29,5 +29,6 @@ public class ConstraintCompilerPlugin extends CompilerPlugin {
     @Override
     public void init(CompilerPluginContext context) {
         context.addCodeAnalyzer(new ConstraintCodeAnalyzer());
+        context.addCodeModifier(new ConstraintCodeModifier());
     }
 }
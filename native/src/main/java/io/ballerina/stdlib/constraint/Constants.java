@@ -76,7 +76,13 @@ public class Constants {
 
     public static final String CONSTRAINT_MESSAGE = "message";
 
+    public static final BString OPTION_FAIL_FAST = StringUtils.fromString("failFast");
+    public static final BString OPTION_MAX_ERRORS = StringUtils.fromString("maxErrors");
+
     static final String GENERIC_ERROR = "Error";
     static final String VALIDATION_ERROR = "ValidationError";
+    static final String VALIDATION_ERROR_DETAIL = "ValidationErrorDetail";
+    static final BString DETAIL_FAILURE_COUNT = StringUtils.fromString("failureCount");
+    static final BString DETAIL_TRUNCATED = StringUtils.fromString("truncated");
     static final String TYPE_CONVERSION_ERROR = "TypeConversionError";
 }
@@ -18,37 +18,42 @@
 
 package io.ballerina.stdlib.constraint;
 
-import io.ballerina.runtime.api.TypeTags;
-import io.ballerina.runtime.api.types.AnnotatableType;
-import io.ballerina.runtime.api.types.ArrayType;
-import io.ballerina.runtime.api.types.IntersectionType;
-import io.ballerina.runtime.api.types.RecordType;
 import io.ballerina.runtime.api.types.Type;
-import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.utils.ValueUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
-import io.ballerina.stdlib.constraint.annotations.AbstractAnnotations;
-import io.ballerina.stdlib.constraint.annotations.RecordFieldAnnotations;
-import io.ballerina.stdlib.constraint.annotations.TypeAnnotations;
+import io.ballerina.stdlib.constraint.plan.ValidationPlan;
+import io.ballerina.stdlib.constraint.plan.ValidationPlanCache;
+import io.ballerina.stdlib.constraint.plan.ValidationResult;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
-
-import static io.ballerina.stdlib.constraint.Constants.SYMBOL_CLOSE_SQUARE_BRACKET;
-import static io.ballerina.stdlib.constraint.Constants.SYMBOL_DOLLAR_SIGN;
-import static io.ballerina.stdlib.constraint.Constants.SYMBOL_OPEN_SQUARE_BRACKET;
+import static io.ballerina.stdlib.constraint.Constants.OPTION_FAIL_FAST;
+import static io.ballerina.stdlib.constraint.Constants.OPTION_MAX_ERRORS;
+import static io.ballerina.stdlib.constraint.plan.ValidationPlan.NO_FAILURE_LIMIT;
 
 /**
  * Extern functions for validating constraints.
  */
 public class Constraints {
 
+    static final String INVALID_MAX_ERRORS_MESSAGE = "The maxErrors option must be a positive integer.";
+
     public static Object validate(Object value, BTypedesc typedesc) {
+        return cloneAndValidate(value, typedesc, false, NO_FAILURE_LIMIT);
+    }
+
+    public static Object validate(Object value, BTypedesc typedesc, BMap<BString, Object> options) {
+        int maxErrors = getMaxErrors(options);
+        if (maxErrors < 1) {
+            return ErrorUtils.createGenericError(INVALID_MAX_ERRORS_MESSAGE);
+        }
+        return cloneAndValidate(value, typedesc, isFailFast(options), maxErrors);
+    }
+
+    private static Object cloneAndValidate(Object value, BTypedesc typedesc, boolean failFast, int maxErrors) {
         Type type = typedesc.getDescribingType();
 
         try {
@@ -56,27 +61,41 @@ public class Constraints {
         } catch (BError e) {
             return ErrorUtils.buildTypeConversionError(e);
         }
+        return validateAfterTypeConversion(value, type, failFast, maxErrors);
+    }
 
+    public static Object validateAfterTypeConversion(Object value, Type type) {
+        return validateAfterTypeConversion(value, type, false, NO_FAILURE_LIMIT);
+    }
+
+    /**
+     * Validates a value which is already converted to the given type.
+     *
+     * @param value     the value to be validated
+     * @param type      the type of the value
+     * @param failFast  whether to stop the validation at the first failed constraint, in which case the returned
+     *                  error reports only that constraint
+     * @param maxErrors the maximum number of the failed constraints to be reported, beyond which the validation is
+     *                  stopped and the returned error is marked as truncated, or
+     *                  {@link ValidationPlan#NO_FAILURE_LIMIT}
+     * @return the validated value or an error
+     */
+    public static Object validateAfterTypeConversion(Object value, Type type, boolean failFast, int maxErrors) {
+        ValidationPlan plan;
         try {
-            List<ConstraintErrorInfo> failedConstraintsInfo = validateAfterTypeConversionInternal(value, type,
-                    SYMBOL_DOLLAR_SIGN, false);
-            if (!failedConstraintsInfo.isEmpty()) {
-                return ErrorUtils.buildValidationError(failedConstraintsInfo);
-            }
-            return value;
-        } catch (InternalValidationException e) {
-            return ErrorUtils.createGenericError(e.getMessage());
+            plan = ValidationPlanCache.getPlan(type);
         } catch (RuntimeException e) {
             return ErrorUtils.buildUnexpectedError(e);
         }
+        return validateAfterTypeConversion(value, plan, failFast, maxErrors);
     }
 
-    public static Object validateAfterTypeConversion(Object value, Type type) {
+    static Object validateAfterTypeConversion(Object value, ValidationPlan plan, boolean failFast, int maxErrors) {
         try {
-            List<ConstraintErrorInfo> failedConstraints = validateAfterTypeConversionInternal(value, type,
-                    SYMBOL_DOLLAR_SIGN, false);
-            if (!failedConstraints.isEmpty()) {
-                return ErrorUtils.buildValidationError(failedConstraints);
+            ValidationResult result = plan.validate(value, failFast, maxErrors);
+            if (!result.getFailedConstraintsInfo().isEmpty()) {
+                // The failed constraints beyond the first one are not reported as truncated when failing fast
+                return ErrorUtils.buildValidationError(result, !failFast);
             }
             return value;
         } catch (InternalValidationException e) {
@@ -86,87 +105,32 @@ public class Constraints {
         }
     }
 
-    private static List<ConstraintErrorInfo> validateArrayMembers(Object value, ArrayType type, String path) {
-        Type memberType = type.getElementType();
-        BArray members = ((BArray) value);
-        List<ConstraintErrorInfo> failedConstraints = new ArrayList<>();
-        for (int i = 0; i < members.getLength(); i++) {
-            failedConstraints.addAll(validateAfterTypeConversionInternal(members.get(i), memberType, path +
-                                        SYMBOL_OPEN_SQUARE_BRACKET + i + SYMBOL_CLOSE_SQUARE_BRACKET, true));
-        }
-        return failedConstraints;
-    }
-
-    private static List<ConstraintErrorInfo> validateAfterTypeConversionInternal(Object value, Type type, String path,
-                                                                                 boolean isMemberValue) {
-        if (type instanceof ArrayType) {
-            return validateArrayMembers(value, (ArrayType) type, path);
-        }
-        List<ConstraintErrorInfo> failedConstraintsInfo = new ArrayList<>();
-        if (type.isReadOnly()) {
-            type = getTypeFromReadOnly(type);
-        }
-        if (type instanceof AnnotatableType) {
-            AbstractAnnotations annotations = getAnnotationImpl(type, failedConstraintsInfo);
-            annotations.validate(value, (AnnotatableType) type, path, isMemberValue);
-        } else if (type instanceof UnionType) {
-            Optional<Type> matchingType = getMatchingType(value, type);
-            if (matchingType.isPresent()) {
-                return validateAfterTypeConversionInternal(value, matchingType.get(), path, isMemberValue);
-            }
-        }
-        return failedConstraintsInfo;
-    }
-
-    private static Type getTypeFromReadOnly(Type type) {
-        IntersectionType intersectionType = null;
-        if (type instanceof RecordType) {
-            Optional<IntersectionType> optionalIntersectionType = ((RecordType) type).getIntersectionType();
-            if (optionalIntersectionType.isPresent()) {
-                intersectionType = optionalIntersectionType.get();
-            }
-        } else if (type instanceof IntersectionType) {
-            intersectionType = (IntersectionType) type;
-        }
-        if (intersectionType != null) {
-            List<Type> constituentTypes = intersectionType.getConstituentTypes();
-            if (constituentTypes.size() == 2) {
-                if (constituentTypes.get(0).getTag() == TypeTags.READONLY_TAG) {
-                    type = TypeUtils.getReferredType(constituentTypes.get(1));
-                } else {
-                    type = TypeUtils.getReferredType(constituentTypes.get(0));
-                }
+    public static Object registerTypes(BArray typedescs) {
+        try {
+            for (int i = 0; i < typedescs.size(); i++) {
+                ValidationPlanCache.register(((BTypedesc) typedescs.get(i)).getDescribingType());
             }
+        } catch (RuntimeException e) {
+            return ErrorUtils.buildUnexpectedError(e);
         }
-        return type;
+        return null;
     }
 
-    private static Optional<Type> getMatchingType(Object value, Type type) {
-        Type valueType;
-        if (value instanceof BMap) {
-            valueType = ((BMap<?, ?>) value).getTypedesc().getDescribingType();
-        } else {
-            // TODO: This flow is not working as expected due to
-            //  https://github.com/ballerina-platform/ballerina-lang/issues/37050
-            valueType = TypeUtils.getType(value);
-        }
-        for (Type typ : ((UnionType) type).getMemberTypes()) {
-            if (TypeUtils.getReferredType(typ).equals(valueType)) {
-                return Optional.of(typ);
-            }
-        }
-        return Optional.empty();
+    static boolean isFailFast(BMap<BString, Object> options) {
+        return (Boolean) options.get(OPTION_FAIL_FAST);
     }
 
-    private static AbstractAnnotations getAnnotationImpl(Type type, List<ConstraintErrorInfo> failedConstraints) {
-        if (type instanceof RecordType) {
-            return new RecordFieldAnnotations(failedConstraints);
-        } else {
-            return new TypeAnnotations(failedConstraints);
+    // Returns the limit of the failed constraints, which is not positive if the option is invalid
+    static int getMaxErrors(BMap<BString, Object> options) {
+        Object maxErrors = options.get(OPTION_MAX_ERRORS);
+        if (maxErrors == null) {
+            return NO_FAILURE_LIMIT;
         }
+        long limit = (Long) maxErrors;
+        return limit < 1 ? 0 : (int) Math.min(limit, NO_FAILURE_LIMIT);
     }
 
-    private static Object cloneWithTargetType(Object value, Type targetType) {
+    static Object cloneWithTargetType(Object value, Type targetType) {
         return TypeUtils.isSameType(TypeUtils.getType(value), targetType) ? value
                 : ValueUtils.convert(value, targetType);
     }
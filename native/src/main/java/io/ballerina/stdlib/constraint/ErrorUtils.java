@@ -19,18 +19,25 @@
 package io.ballerina.stdlib.constraint;
 
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.constraint.plan.ValidationResult;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import static io.ballerina.stdlib.constraint.Constants.DETAIL_FAILURE_COUNT;
+import static io.ballerina.stdlib.constraint.Constants.DETAIL_TRUNCATED;
 import static io.ballerina.stdlib.constraint.Constants.GENERIC_ERROR;
 import static io.ballerina.stdlib.constraint.Constants.SYMBOL_COMMA;
 import static io.ballerina.stdlib.constraint.Constants.SYMBOL_DOT;
 import static io.ballerina.stdlib.constraint.Constants.SYMBOL_SINGLE_QUOTE;
 import static io.ballerina.stdlib.constraint.Constants.TYPE_CONVERSION_ERROR;
+import static io.ballerina.stdlib.constraint.Constants.VALIDATION_ERROR_DETAIL;
 
 /**
  * Utility functions related to errors.
@@ -42,6 +49,8 @@ public class ErrorUtils {
             "mismatch.";
     private static final String VALIDATION_ERROR_MESSAGE_PREFIX = "Validation failed for ";
     private static final String VALIDATION_ERROR_MESSAGE_SUFFIX = " constraint(s)";
+    private static final String TRUNCATED_ERROR_MESSAGE = " The validation was stopped after %d failed " +
+            "constraint(s), of which the first %d are reported.";
 
     static BError buildUnexpectedError(RuntimeException e) {
         if (e instanceof BError) {
@@ -50,7 +59,20 @@ public class ErrorUtils {
         return createGenericError(UNEXPECTED_ERROR_MESSAGE);
     }
 
-    static BError buildValidationError(List<ConstraintErrorInfo> failedConstraintsInfo) {
+    /**
+     * Builds the validation error of the failed constraints of a validation.
+     *
+     * @param result           the result of the validation
+     * @param reportTruncation whether to mark the error as truncated if more constraints failed than the reported ones
+     * @return the validation error
+     */
+    static BError buildValidationError(ValidationResult result, boolean reportTruncation) {
+        List<ConstraintErrorInfo> failedConstraintsInfo = result.getFailedConstraintsInfo();
+        boolean truncated = reportTruncation && result.isTruncated();
+        int failureCount = truncated ? result.getFailureCount() : failedConstraintsInfo.size();
+        String truncatedMessage = truncated ?
+                String.format(TRUNCATED_ERROR_MESSAGE, failureCount, failedConstraintsInfo.size()) : "";
+        BMap<BString, Object> details = createValidationErrorDetail(failureCount, truncated);
         List<String> customErrorMsgList = new ArrayList<>();
         List<String> restErrorMsgList = new ArrayList<>();
         List<String> causeMsgList = new ArrayList<>();
@@ -63,13 +85,22 @@ public class ErrorUtils {
             }
         }
         if (customErrorMsgList.isEmpty()) {
-            return createError(buildDefaultErrorMessage(causeMsgList));
+            return createValidationError(buildDefaultErrorMessage(causeMsgList) + truncatedMessage, null, details);
         }
         BError cause = createGenericError(buildDefaultErrorMessage(causeMsgList));
         if (!restErrorMsgList.isEmpty()) {
             customErrorMsgList.add(buildDefaultErrorMessage(restErrorMsgList));
         }
-        return createError(buildErrorMessage(customErrorMsgList), cause);
+        return createValidationError(buildErrorMessage(customErrorMsgList) + truncatedMessage, cause, details);
+    }
+
+    // The detail tells whether the failed constraints are truncated, without parsing the message
+    private static BMap<BString, Object> createValidationErrorDetail(int failureCount, boolean truncated) {
+        BMap<BString, Object> details = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                VALIDATION_ERROR_DETAIL);
+        details.put(DETAIL_FAILURE_COUNT, (long) failureCount);
+        details.put(DETAIL_TRUNCATED, truncated);
+        return details;
     }
 
     static String buildDefaultErrorMessage(List<String> failedConstraints) {
@@ -116,18 +147,13 @@ public class ErrorUtils {
                                         StringUtils.fromString(errMessage), null, null);
     }
 
-    static BError createError(String errMessage) {
+    static BError createValidationError(String errMessage, BError err, BMap<BString, Object> details) {
         return ErrorCreator.createError(ModuleUtils.getModule(), Constants.VALIDATION_ERROR,
-                                        StringUtils.fromString(errMessage), null, null);
+                                        StringUtils.fromString(errMessage), err, details);
     }
 
     static BError createError(String errMessage, BError err, String errorType) {
         return ErrorCreator.createError(ModuleUtils.getModule(), errorType,
                                         StringUtils.fromString(errMessage), err, null);
     }
-
-    static BError createError(String errMessage, BError err) {
-        return ErrorCreator.createError(ModuleUtils.getModule(), Constants.VALIDATION_ERROR,
-                                        StringUtils.fromString(errMessage), err, null);
-    }
 }
@@ -20,6 +20,7 @@ package io.ballerina.stdlib.constraint;
 
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.Module;
+import io.ballerina.stdlib.constraint.plan.ValidationPlan;
 
 /**
  * Utility functions relevant to module operations.
@@ -37,4 +38,8 @@ public class ModuleUtils {
     public static Module getModule() {
         return constraintModule;
     }
+
+    public static void setAdaptiveCheckOrdering(boolean adaptiveCheckOrdering) {
+        ValidationPlan.setAdaptiveCheckOrdering(adaptiveCheckOrdering);
+    }
 }
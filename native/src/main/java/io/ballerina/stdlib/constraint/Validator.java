@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.constraint.plan.ValidationPlan;
+
+/**
+ * Extern functions of the `constraint:Validator` object.
+ */
+public class Validator {
+
+    private static final String VALIDATION_PLAN = "validationPlan";
+
+    public static Object initValidator(BObject validator, BTypedesc typedesc) {
+        try {
+            validator.addNativeData(VALIDATION_PLAN, ValidationPlan.build(typedesc.getDescribingType()));
+        } catch (RuntimeException e) {
+            return ErrorUtils.buildUnexpectedError(e);
+        }
+        return null;
+    }
+
+    public static Object validate(BObject validator, Object value, BMap<BString, Object> options) {
+        int maxErrors = Constraints.getMaxErrors(options);
+        if (maxErrors < 1) {
+            return ErrorUtils.createGenericError(Constraints.INVALID_MAX_ERRORS_MESSAGE);
+        }
+        ValidationPlan plan = (ValidationPlan) validator.getNativeData(VALIDATION_PLAN);
+        try {
+            value = Constraints.cloneWithTargetType(value, plan.getType());
+        } catch (BError e) {
+            return ErrorUtils.buildTypeConversionError(e);
+        }
+        return Constraints.validateAfterTypeConversion(value, plan, Constraints.isFailFast(options), maxErrors);
+    }
+
+    public static boolean isValid(BObject validator, Object value) {
+        ValidationPlan plan = (ValidationPlan) validator.getNativeData(VALIDATION_PLAN);
+        try {
+            // The first failure is enough to tell that the value is invalid
+            return plan.validate(Constraints.cloneWithTargetType(value, plan.getType()), true,
+                    ValidationPlan.NO_FAILURE_LIMIT).getFailedConstraintsInfo().isEmpty();
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private Validator() {
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The plan node to validate the constraints on a type and the type it refers to.
+ */
+final class AnnotatedTypeNode extends PlanNode {
+
+    private ConstraintCheck[] checks;
+    private ConstraintCheck[] checksByCost;
+    private FailureProfile profile;
+    private PlanNode referredTypeNode;
+
+    void init(ConstraintCheck[] checks, PlanNode referredTypeNode) {
+        this.checks = checks;
+        this.checksByCost = ConstraintCheckFactory.orderByCost(checks);
+        this.profile = FailureProfile.create(checks.length);
+        this.referredTypeNode = referredTypeNode;
+    }
+
+    @Override
+    void validate(Object value, boolean isMemberValue, ValidationContext context) {
+        ConstraintCheck.validate(checks, checksByCost, profile, value, isMemberValue, context);
+        if (referredTypeNode != null && !context.isStopped()) {
+            referredTypeNode.validate(value, isMemberValue, context);
+        }
+    }
+
+    /**
+     * Returns the checks of the node if the node does not validate the value any further.
+     *
+     * @return the checks or {@code null} if the referred type has constraints as well
+     */
+    ConstraintCheck[] getLeafChecks() {
+        return referredTypeNode == null ? checks : null;
+    }
+
+    @Override
+    boolean hasConstraints() {
+        return checks.length > 0;
+    }
+
+    @Override
+    List<PlanNode> getChildNodes() {
+        return referredTypeNode == null ? Collections.emptyList() : Collections.singletonList(referredTypeNode);
+    }
+
+    @Override
+    void prune(Set<PlanNode> constrainedNodes) {
+        if (!constrainedNodes.contains(referredTypeNode)) {
+            referredTypeNode = null;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+import io.ballerina.runtime.api.utils.IdentifierUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import static io.ballerina.stdlib.constraint.Constants.ANNOTATION_RECORD_REGEX;
+import static io.ballerina.stdlib.constraint.Constants.PREFIX_RECORD_FIELD;
+import static io.ballerina.stdlib.constraint.Constants.SYMBOL_SEPARATOR;
+
+/**
+ * Represents the classification of an annotation key. A key either refers to an annotation tag of the constraint
+ * module, to the annotations of a record field or to an annotation which is not relevant for the validation.
+ * <p>
+ * The keys are classified once and shared across the plans, as the same keys are found in the annotations of many
+ * types. The keys are defined at compile time, hence the number of classified keys is bounded by the program.
+ */
+final class AnnotationKey {
+
+    private static final Pattern ANNOTATION_RECORD_PATTERN = Pattern.compile(ANNOTATION_RECORD_REGEX);
+    private static final AnnotationKey OTHER = new AnnotationKey(null, null);
+    private static final Map<String, AnnotationKey> KEYS = new ConcurrentHashMap<>();
+
+    private final ConstraintTag tag;
+    private final String fieldName;
+
+    private AnnotationKey(ConstraintTag tag, String fieldName) {
+        this.tag = tag;
+        this.fieldName = fieldName;
+    }
+
+    static AnnotationKey of(String key) {
+        AnnotationKey annotationKey = KEYS.get(key);
+        if (annotationKey == null) {
+            annotationKey = KEYS.computeIfAbsent(key, AnnotationKey::classify);
+        }
+        return annotationKey;
+    }
+
+    private static AnnotationKey classify(String key) {
+        if (key.startsWith(PREFIX_RECORD_FIELD)) {
+            return new AnnotationKey(null,
+                    IdentifierUtils.unescapeBallerina(key.substring(PREFIX_RECORD_FIELD.length() + 1)));
+        }
+        if (ANNOTATION_RECORD_PATTERN.matcher(key).matches()) {
+            int tagIndex = key.indexOf(SYMBOL_SEPARATOR, key.indexOf(SYMBOL_SEPARATOR) + 1) + 1;
+            ConstraintTag tag = ConstraintTag.fromAnnotationTag(key.substring(tagIndex));
+            return tag != null ? new AnnotationKey(tag, null) : OTHER;
+        }
+        return OTHER;
+    }
+
+    /**
+     * Returns the annotation tag of the constraint module referred by the key.
+     *
+     * @return the annotation tag or {@code null} if the key does not refer to a constraint annotation
+     */
+    ConstraintTag getTag() {
+        return tag;
+    }
+
+    /**
+     * Returns the unescaped name of the record field of which the annotations are referred by the key.
+     *
+     * @return the field name or {@code null} if the key does not refer to the annotations of a record field
+     */
+    String getFieldName() {
+        return fieldName;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+import io.ballerina.runtime.api.values.BArray;
+
+/**
+ * The check of a length constraint of `@constraint:Array`.
+ */
+final class ArrayLengthCheck extends ConstraintCheck {
+
+    private final LengthConstraint constraint;
+    private final long bound;
+    private final String message;
+
+    ArrayLengthCheck(LengthConstraint constraint, long bound, String message) {
+        this.constraint = constraint;
+        this.bound = bound;
+        this.message = message;
+    }
+
+    @Override
+    int getCost() {
+        return LENGTH_COST;
+    }
+
+    @Override
+    void validate(Object value, boolean isMemberValue, ValidationContext context) {
+        if (!constraint.isSatisfied(((BArray) value).getLength(), bound)) {
+            context.addFailedConstraintInfo(constraint.getConstraintName(), message, isMemberValue);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The plan node to validate the constraints on the members of an array.
+ * <p>
+ * The members of the int, byte, float and string arrays are read from the storage of the array through the typed
+ * accessors when the members only have the constraints of the member type, so that the members are not boxed.
+ * The large int and float arrays are first checked in bulk against the ranges of the checks, and the members are
+ * checked one by one only when some member is out of the ranges.
+ */
+final class ArrayNode extends ContainerNode {
+
+    private static final int BULK_CHECK_THRESHOLD = 32;
+
+    private PlanNode memberNode;
+
+    void init(PlanNode memberNode) {
+        this.memberNode = memberNode;
+    }
+
+    @Override
+    void validate(Object value, boolean isMemberValue, ValidationContext context) {
+        if (memberNode == null) {
+            return;
+        }
+        BArray members = (BArray) value;
+        if (memberNode instanceof AnnotatedTypeNode) {
+            ConstraintCheck[] memberChecks = ((AnnotatedTypeNode) memberNode).getLeafChecks();
+            if (memberChecks != null && validatePrimitiveMembers(members, memberChecks, context)) {
+                return;
+            }
+        }
+        int length = members.size();
+        if (length > 0) {
+            context.pushMembers(this, members, length, true, context.reserveFieldValues(0));
+        }
+    }
+
+    @Override
+    void validateMember(Object value, int memberIndex, boolean isMemberValue, int fieldValuesIndex,
+                        ValidationContext context) {
+        context.getPath().enterIndex(memberIndex);
+        memberNode.validate(((BArray) value).get(memberIndex), true, context);
+    }
+
+    private boolean validatePrimitiveMembers(BArray members, ConstraintCheck[] memberChecks,
+                                             ValidationContext context) {
+        // The tuples and the read-only intersections are validated through the boxed members
+        Type arrayType = TypeUtils.getReferredType(members.getType());
+        if (arrayType.getTag() != TypeTags.ARRAY_TAG) {
+            return false;
+        }
+        ValidationPath path = context.getPath();
+        int length = members.size();
+        switch (TypeUtils.getReferredType(((ArrayType) arrayType).getElementType()).getTag()) {
+            case TypeTags.INT_TAG:
+                if (length >= BULK_CHECK_THRESHOLD && isSatisfiedByAll(memberChecks, members.getIntArray(), length)) {
+                    return true;
+                }
+                for (int i = 0; i < length; i++) {
+                    long member = members.getInt(i);
+                    path.enterIndex(i);
+                    validateIntMember(memberChecks, member, context);
+                    path.exit();
+                    if (context.isStopped()) {
+                        return true;
+                    }
+                }
+                return true;
+            case TypeTags.BYTE_TAG:
+                for (int i = 0; i < length; i++) {
+                    long member = Byte.toUnsignedInt(members.getByte(i));
+                    path.enterIndex(i);
+                    validateIntMember(memberChecks, member, context);
+                    path.exit();
+                    if (context.isStopped()) {
+                        return true;
+                    }
+                }
+                return true;
+            case TypeTags.FLOAT_TAG:
+                if (length >= BULK_CHECK_THRESHOLD &&
+                        isSatisfiedByAll(memberChecks, members.getFloatArray(), length)) {
+                    return true;
+                }
+                for (int i = 0; i < length; i++) {
+                    double member = members.getFloat(i);
+                    path.enterIndex(i);
+                    validateFloatMember(memberChecks, member, context);
+                    path.exit();
+                    if (context.isStopped()) {
+                        return true;
+                    }
+                }
+                return true;
+            case TypeTags.STRING_TAG:
+                for (int i = 0; i < length; i++) {
+                    BString member = members.getBString(i);
+                    path.enterIndex(i);
+                    memberNode.validate(member, true, context);
+                    path.exit();
+                    if (context.isStopped()) {
+                        return true;
+                    }
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    // The value checks of a member have the same cost, hence the checks retain their order
+    private static void validateIntMember(ConstraintCheck[] memberChecks, long member, ValidationContext context) {
+        int failureCount = context.getFailureCount();
+        for (ConstraintCheck check : memberChecks) {
+            check.validateInt(member, true, context);
+            if (context.isFirstFailureOnly() && context.getFailureCount() > failureCount) {
+                return;
+            }
+        }
+    }
+
+    private static void validateFloatMember(ConstraintCheck[] memberChecks, double member,
+                                            ValidationContext context) {
+        int failureCount = context.getFailureCount();
+        for (ConstraintCheck check : memberChecks) {
+            check.validateFloat(member, true, context);
+            if (context.isFirstFailureOnly() && context.getFailureCount() > failureCount) {
+                return;
+            }
+        }
+    }
+
+    private static boolean isSatisfiedByAll(ConstraintCheck[] memberChecks, long[] values, int length) {
+        for (ConstraintCheck check : memberChecks) {
+            if (!check.isSatisfiedByAll(values, length)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSatisfiedByAll(ConstraintCheck[] memberChecks, double[] values, int length) {
+        for (ConstraintCheck check : memberChecks) {
+            if (!check.isSatisfiedByAll(values, length)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    boolean hasConstraints() {
+        return false;
+    }
+
+    @Override
+    List<PlanNode> getChildNodes() {
+        return memberNode == null ? Collections.emptyList() : Collections.singletonList(memberNode);
+    }
+
+    @Override
+    void prune(Set<PlanNode> constrainedNodes) {
+        if (!constrainedNodes.contains(memberNode)) {
+            memberNode = null;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+/**
+ * The abstract class to represent a check of the constraints attached to a type or a record field.
+ */
+abstract class ConstraintCheck {
+
+    // The relative costs of the checks. The checks which fail the validation regardless of the value come first
+    static final int INVALID_CONSTRAINT_COST = 0;
+    static final int LENGTH_COST = 1;
+    static final int VALUE_COST = 2;
+    static final int DATE_COST = 3;
+    static final int PATTERN_COST = 4;
+
+    abstract void validate(Object value, boolean isMemberValue, ValidationContext context);
+
+    /**
+     * Returns the relative cost of the check, which orders the checks when only the first failure is needed.
+     *
+     * @return the cost of the check
+     */
+    abstract int getCost();
+
+    /**
+     * Validates a value against the checks attached to it. When only the first failure is needed, the remaining
+     * checks are skipped once a check fails. The checks are then run in the order of their costs, or in the order of
+     * their failures if the failures are profiled.
+     *
+     * @param checks        the checks in declaration order
+     * @param checksByCost  the same checks in the order of their costs
+     * @param profile       the profile of the failures of the checks in the order of their costs, or {@code null}
+     * @param value         the value to be validated
+     * @param isMemberValue whether the value is a member of an array
+     * @param context       the context of the validation
+     */
+    static void validate(ConstraintCheck[] checks, ConstraintCheck[] checksByCost, FailureProfile profile,
+                         Object value, boolean isMemberValue, ValidationContext context) {
+        if (!context.isFirstFailureOnly()) {
+            for (ConstraintCheck check : checks) {
+                check.validate(value, isMemberValue, context);
+            }
+            return;
+        }
+        int failureCount = context.getFailureCount();
+        int[] order = profile != null ? profile.getOrder() : null;
+        for (int i = 0; i < checksByCost.length; i++) {
+            int index = order != null ? order[i] : i;
+            checksByCost[index].validate(value, isMemberValue, context);
+            if (context.getFailureCount() > failureCount) {
+                if (profile != null) {
+                    profile.recordFailure(index);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Validates an int value read from the primitive storage of an array. The checks of the int values override this
+     * to validate the value without boxing it.
+     */
+    void validateInt(long value, boolean isMemberValue, ValidationContext context) {
+        validate(value, isMemberValue, context);
+    }
+
+    /**
+     * Validates a float value read from the primitive storage of an array. The checks of the float values override
+     * this to validate the value without boxing it.
+     */
+    void validateFloat(double value, boolean isMemberValue, ValidationContext context) {
+        validate(value, isMemberValue, context);
+    }
+
+    /**
+     * Checks whether all the int values in the primitive storage of an array satisfy the constraints. The checks of
+     * the int values override this to check the values in bulk.
+     *
+     * @param values the storage of the array
+     * @param length the number of members of the array
+     * @return {@code true} if all the values are valid, {@code false} if some of them may be invalid
+     */
+    boolean isSatisfiedByAll(long[] values, int length) {
+        return false;
+    }
+
+    /**
+     * Checks whether all the float values in the primitive storage of an array satisfy the constraints. The checks
+     * of the float values override this to check the values in bulk.
+     *
+     * @param values the storage of the array
+     * @param length the number of members of the array
+     * @return {@code true} if all the values are valid, {@code false} if some of them may be invalid
+     */
+    boolean isSatisfiedByAll(double[] values, int length) {
+        return false;
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BRegexpValue;
+import io.ballerina.runtime.api.values.BString;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static io.ballerina.stdlib.constraint.Constants.CONSTRAINT_DATE_OPTION;
+import static io.ballerina.stdlib.constraint.Constants.CONSTRAINT_MESSAGE;
+import static io.ballerina.stdlib.constraint.Constants.CONSTRAINT_PATTERN;
+import static io.ballerina.stdlib.constraint.Constants.MESSAGE;
+import static io.ballerina.stdlib.constraint.Constants.VALUE;
+
+/**
+ * Creates the checks of the constraints of a constraint annotation.
+ * <p>
+ * The checks are immutable, hence they are interned by the constraints they check, along with the values and the
+ * messages of the constraints. The same constraints attached to many types and fields, as well as the arrays of the
+ * same checks, are therefore shared across the plans. The interned checks are bounded by the
+ * constraint annotations of the program.
+ */
+final class ConstraintCheckFactory {
+
+    private static final String INVALID_LENGTH = "invalidLength";
+
+    private static final Map<List<Object>, ConstraintCheck> CHECKS = new ConcurrentHashMap<>();
+    private static final Map<List<ConstraintCheck>, ConstraintCheck[]> CHECK_ARRAYS = new ConcurrentHashMap<>();
+
+    /**
+     * Adds the checks of the given constraint annotation, which resolve the constraint values and messages upfront.
+     *
+     * @param tag         the tag of the constraint annotation
+     * @param constraints the constraints of the annotation
+     * @param checks      the list to add the checks
+     */
+    static void addChecks(ConstraintTag tag, BMap<BString, Object> constraints, List<ConstraintCheck> checks) {
+        if (tag == ConstraintTag.DATE) {
+            checks.add(createDateCheck(constraints));
+            return;
+        }
+        if (tag == ConstraintTag.INT || tag == ConstraintTag.FLOAT || tag == ConstraintTag.NUMBER) {
+            ConstraintCheck check = createValueCheck(tag, constraints);
+            if (check != null) {
+                checks.add(check);
+            }
+            return;
+        }
+        for (Map.Entry<BString, Object> constraint : constraints.entrySet()) {
+            ConstraintCheck check = createLengthOrPatternCheck(tag, constraint);
+            if (check != null) {
+                checks.add(check);
+            }
+        }
+    }
+
+    /**
+     * Returns the shared array of the given checks.
+     *
+     * @param checks the checks
+     * @return an array of the same checks, which may be shared with other nodes
+     */
+    static ConstraintCheck[] internChecks(ConstraintCheck[] checks) {
+        // The interned checks are compared by identity, hence the arrays of the same checks have equal keys
+        return CHECK_ARRAYS.computeIfAbsent(Arrays.asList(checks), key -> checks);
+    }
+
+    /**
+     * Returns the given checks in the order of their costs. The checks of the same cost retain their order.
+     *
+     * @param checks the checks in declaration order
+     * @return the checks in the order of their costs, which is the given array if the order is the same
+     */
+    static ConstraintCheck[] orderByCost(ConstraintCheck[] checks) {
+        for (int i = 1; i < checks.length; i++) {
+            if (checks[i].getCost() < checks[i - 1].getCost()) {
+                ConstraintCheck[] checksByCost = checks.clone();
+                Arrays.sort(checksByCost, Comparator.comparingInt(ConstraintCheck::getCost));
+                return checksByCost;
+            }
+        }
+        return checks;
+    }
+
+    private static ConstraintCheck internCheck(List<Object> key, Supplier<ConstraintCheck> checkSupplier) {
+        ConstraintCheck check = CHECKS.get(key);
+        return check != null ? check : CHECKS.computeIfAbsent(key, k -> checkSupplier.get());
+    }
+
+    /**
+     * Creates a single check of all the value constraints of the annotation, with the bounds resolved to primitive
+     * values. The constraints retain their order, so that the failures are reported in the same order.
+     */
+    private static ConstraintCheck createValueCheck(ConstraintTag tag, BMap<BString, Object> constraints) {
+        int size = constraints.size();
+        ValueConstraint[] valueConstraints = new ValueConstraint[size];
+        long[] longBounds = new long[size];
+        double[] doubleBounds = new double[size];
+        BigDecimal[] decimalBounds = new BigDecimal[size];
+        String[] messages = new String[size];
+        int count = 0;
+        for (Map.Entry<BString, Object> constraint : constraints.entrySet()) {
+            ValueConstraint valueConstraint = ValueConstraint.fromConstraintName(constraint.getKey().getValue());
+            if (valueConstraint == null) {
+                continue;
+            }
+            Object constraintValue = getConstraintValue(constraint.getValue());
+            valueConstraints[count] = valueConstraint;
+            messages[count] = getConstraintMessage(constraint.getValue());
+            if (tag == ConstraintTag.INT) {
+                longBounds[count] = (Long) constraintValue;
+            } else if (tag == ConstraintTag.FLOAT) {
+                doubleBounds[count] = (Double) constraintValue;
+            } else {
+                decimalBounds[count] = ((BDecimal) constraintValue).value();
+            }
+            count++;
+        }
+        if (count == 0) {
+            return null;
+        }
+        ValueConstraint[] checkedConstraints = Arrays.copyOf(valueConstraints, count);
+        String[] checkedMessages = Arrays.copyOf(messages, count);
+        List<Object> key;
+        Supplier<ConstraintCheck> checkSupplier;
+        if (tag == ConstraintTag.INT) {
+            long[] bounds = Arrays.copyOf(longBounds, count);
+            key = Arrays.asList(tag, Arrays.asList(checkedConstraints), Arrays.stream(bounds).boxed()
+                    .collect(Collectors.toList()), Arrays.asList(checkedMessages));
+            checkSupplier = () -> new IntValueCheck(checkedConstraints, bounds, checkedMessages);
+        } else if (tag == ConstraintTag.FLOAT) {
+            double[] bounds = Arrays.copyOf(doubleBounds, count);
+            key = Arrays.asList(tag, Arrays.asList(checkedConstraints), Arrays.stream(bounds).boxed()
+                    .collect(Collectors.toList()), Arrays.asList(checkedMessages));
+            checkSupplier = () -> new FloatValueCheck(checkedConstraints, bounds, checkedMessages);
+        } else {
+            BigDecimal[] bounds = Arrays.copyOf(decimalBounds, count);
+            key = Arrays.asList(tag, Arrays.asList(checkedConstraints), Arrays.asList(bounds),
+                    Arrays.asList(checkedMessages));
+            checkSupplier = () -> new NumberValueCheck(checkedConstraints, bounds, checkedMessages);
+        }
+        return internCheck(key, checkSupplier);
+    }
+
+    private static ConstraintCheck createDateCheck(BMap<BString, Object> constraints) {
+        String message = null;
+        DateConstraint dateConstraint = null;
+        String constraintMessage = null;
+        for (Map.Entry<BString, Object> constraint : constraints.entrySet()) {
+            String constraintName = constraint.getKey().getValue();
+            if (constraintName.equals(CONSTRAINT_MESSAGE)) {
+                message = ((BString) constraint.getValue()).getValue();
+            } else if (constraintName.equals(CONSTRAINT_DATE_OPTION)) {
+                dateConstraint = DateConstraint.fromOption(getConstraintValue(constraint.getValue()).toString());
+                constraintMessage = getConstraintMessage(constraint.getValue());
+            }
+        }
+        String dateMessage = message;
+        DateConstraint checkedConstraint = dateConstraint;
+        String checkedConstraintMessage = constraintMessage;
+        return internCheck(Arrays.asList(ConstraintTag.DATE, message, dateConstraint, constraintMessage),
+                () -> new DateCheck(dateMessage, checkedConstraint, checkedConstraintMessage));
+    }
+
+    private static ConstraintCheck createLengthOrPatternCheck(ConstraintTag tag,
+                                                              Map.Entry<BString, Object> constraint) {
+        String constraintName = constraint.getKey().getValue();
+        Object constraintValue = getConstraintValue(constraint.getValue());
+        String message = getConstraintMessage(constraint.getValue());
+        LengthConstraint lengthConstraint = LengthConstraint.fromConstraintName(constraintName);
+        if (lengthConstraint != null) {
+            long bound = (Long) constraintValue;
+            if (bound <= 0) {
+                return internCheck(Arrays.asList(INVALID_LENGTH, constraintName),
+                        () -> new InvalidLengthCheck(constraintName));
+            }
+            return internCheck(Arrays.asList(tag, lengthConstraint, bound, message),
+                    () -> tag == ConstraintTag.STRING ? new StringLengthCheck(lengthConstraint, bound, message) :
+                            new ArrayLengthCheck(lengthConstraint, bound, message));
+        } else if (tag == ConstraintTag.STRING && constraintName.equals(CONSTRAINT_PATTERN)) {
+            BRegexpValue pattern = (BRegexpValue) constraintValue;
+            // The patterns are compared by their source, as the regular expression values are not
+            return internCheck(Arrays.asList(tag, CONSTRAINT_PATTERN, pattern.stringValue(null), message),
+                    () -> new PatternCheck(pattern, message));
+        }
+        return null;
+    }
+
+    // A constraint is either the constraint value or a record of the constraint value and the error message
+    @SuppressWarnings("unchecked")
+    private static Object getConstraintValue(Object constraint) {
+        return constraint instanceof BMap ? ((BMap<BString, Object>) constraint).get(VALUE) : constraint;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String getConstraintMessage(Object constraint) {
+        return constraint instanceof BMap ? ((BMap<BString, Object>) constraint).getStringValue(MESSAGE).getValue() :
+                null;
+    }
+
+    private ConstraintCheckFactory() {
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+import static io.ballerina.stdlib.constraint.Constants.ANNOTATION_TAG_ARRAY;
+import static io.ballerina.stdlib.constraint.Constants.ANNOTATION_TAG_DATE;
+import static io.ballerina.stdlib.constraint.Constants.ANNOTATION_TAG_FLOAT;
+import static io.ballerina.stdlib.constraint.Constants.ANNOTATION_TAG_INT;
+import static io.ballerina.stdlib.constraint.Constants.ANNOTATION_TAG_NUMBER;
+import static io.ballerina.stdlib.constraint.Constants.ANNOTATION_TAG_STRING;
+
+/**
+ * Represents the annotation tags defined in the constraint module.
+ */
+enum ConstraintTag {
+    INT,
+    FLOAT,
+    NUMBER,
+    STRING,
+    ARRAY,
+    DATE;
+
+    static ConstraintTag fromAnnotationTag(String annotationTag) {
+        switch (annotationTag) {
+            case ANNOTATION_TAG_INT:
+                return INT;
+            case ANNOTATION_TAG_FLOAT:
+                return FLOAT;
+            case ANNOTATION_TAG_NUMBER:
+                return NUMBER;
+            case ANNOTATION_TAG_STRING:
+                return STRING;
+            case ANNOTATION_TAG_ARRAY:
+                return ARRAY;
+            case ANNOTATION_TAG_DATE:
+                return DATE;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.constraint.plan;
+
+/**
+ * The abstract class to represent a plan node of a value with members, such as a record or an array. The members are
+ * not validated along with the value, but pushed to the context to be validated through {@link #validateMember}.
+ */
+abstract class ContainerNode extends PlanNode {
+
+    /**
+     * Validates a member of a value whose members are pushed to the context by this node. The node enters the path
+     * of the member, which is exited by the context once the member and its own members are validated.
+     *
+     * @param value            the value of which the member is validated
+     * @param memberIndex      the index of the member
+     * @param isMemberValue    whether the value is a member of an array
+     * @param fieldValuesIndex the index of the first value kept in the context for the members
+     * @param context          the context of the validation
+     */
+    abstract void validateMember(Object value, int memberIndex, boolean isMemberValue, int fieldValuesIndex,
+                                 ValidationContext context);
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+import io.ballerina.stdlib.constraint.validators.CivilDate;
+
+import static io.ballerina.stdlib.constraint.Constants.CONSTRAINT_VALID_DATE;
+
+/**
+ * The check of `@constraint:Date`.
+ * <p>
+ * The fields of the date are validated and the date is compared with the current date as epoch days, so that the
+ * check of a valid date neither allocates nor relies on exceptions. The current date is read once per validation.
+ */
+final class DateCheck extends ConstraintCheck {
+
+    private final String message;
+    private final DateConstraint constraint;
+    private final String constraintMessage;
+
+    DateCheck(String message, DateConstraint constraint, String constraintMessage) {
+        this.message = message;
+        this.constraint = constraint;
+        this.constraintMessage = constraintMessage;
+    }
+
+    @Override
+    int getCost() {
+        return DATE_COST;
+    }
+
+    @Override
+    void validate(Object value, boolean isMemberValue, ValidationContext context) {
+        long epochDay = CivilDate.getEpochDay(value);
+        if (epochDay == CivilDate.INVALID_EPOCH_DAY) {
+            for (String fieldName : CivilDate.getInvalidFields(value)) {
+                addInvalidDateField(fieldName, isMemberValue, context);
+            }
+        } else if (constraint != null && !constraint.isSatisfied(epochDay, context.getTodayEpochDay())) {
+            context.addFailedConstraintInfo(constraint.getConstraintName(), constraintMessage, isMemberValue);
+        }
+    }
+
+    private void addInvalidDateField(String fieldName, boolean isMemberValue, ValidationContext context) {
+        ValidationPath path = context.getPath();
+        path.enterField(fieldName);
+        context.addFailedConstraintInfo(CONSTRAINT_VALID_DATE, message, isMemberValue);
+        path.exit();
+    }
+}
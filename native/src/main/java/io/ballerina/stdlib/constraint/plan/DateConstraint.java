@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+import static io.ballerina.stdlib.constraint.Constants.FUTURE;
+import static io.ballerina.stdlib.constraint.Constants.FUTURE_DATE;
+import static io.ballerina.stdlib.constraint.Constants.FUTURE_OR_PRESENT;
+import static io.ballerina.stdlib.constraint.Constants.FUTURE_OR_PRESENT_DATE;
+import static io.ballerina.stdlib.constraint.Constants.PAST;
+import static io.ballerina.stdlib.constraint.Constants.PAST_DATE;
+import static io.ballerina.stdlib.constraint.Constants.PAST_OR_PRESENT;
+import static io.ballerina.stdlib.constraint.Constants.PAST_OR_PRESENT_DATE;
+
+/**
+ * Represents the date options of `@constraint:Date`.
+ */
+enum DateConstraint {
+    PAST_DATE_OPTION(PAST_DATE),
+    PAST_OR_PRESENT_DATE_OPTION(PAST_OR_PRESENT_DATE),
+    FUTURE_DATE_OPTION(FUTURE_DATE),
+    FUTURE_OR_PRESENT_DATE_OPTION(FUTURE_OR_PRESENT_DATE);
+
+    private final String constraintName;
+
+    DateConstraint(String constraintName) {
+        this.constraintName = constraintName;
+    }
+
+    String getConstraintName() {
+        return constraintName;
+    }
+
+    boolean isSatisfied(long epochDay, long todayEpochDay) {
+        switch (this) {
+            case PAST_DATE_OPTION:
+                return epochDay < todayEpochDay;
+            case PAST_OR_PRESENT_DATE_OPTION:
+                return epochDay <= todayEpochDay;
+            case FUTURE_DATE_OPTION:
+                return epochDay > todayEpochDay;
+            default:
+                return epochDay >= todayEpochDay;
+        }
+    }
+
+    static DateConstraint fromOption(String option) {
+        switch (option) {
+            case PAST:
+                return PAST_DATE_OPTION;
+            case PAST_OR_PRESENT:
+                return PAST_OR_PRESENT_DATE_OPTION;
+            case FUTURE:
+                return FUTURE_DATE_OPTION;
+            case FUTURE_OR_PRESENT:
+                return FUTURE_OR_PRESENT_DATE_OPTION;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the failures of the checks or the fields of a type, so that the ones failing the most are validated first
+ * when only the first failure is needed. The failures are counted with striped counters, as a profile is shared by
+ * the strands validating the type, and the order is recomputed once a number of failures are recorded. As the order
+ * only changes with the failures, the validation of the valid values is not affected.
+ * <p>
+ * The profiles are created only when the adaptive ordering is enabled through the `adaptiveCheckOrdering`
+ * configurable of the module.
+ */
+final class FailureProfile {
+
+    private static final int REORDER_INTERVAL = 256;
+
+    private static volatile boolean enabled;
+
+    private final LongAdder[] failureCounts;
+    // The indexes of the checks or the fields in the order to be validated
+    private volatile int[] order;
+    // Updated without synchronization as it is only used to decide when to reorder
+    private int pendingFailures;
+
+    private FailureProfile(int size) {
+        failureCounts = new LongAdder[size];
+        order = new int[size];
+        for (int i = 0; i < size; i++) {
+            failureCounts[i] = new LongAdder();
+            order[i] = i;
+        }
+    }
+
+    /**
+     * Enables or disables the profiling of the plans built afterwards.
+     *
+     * @param enabled whether to profile the failures
+     */
+    static void setEnabled(boolean enabled) {
+        FailureProfile.enabled = enabled;
+    }
+
+    /**
+     * Creates a profile of the given number of checks or fields.
+     *
+     * @param size the number of checks or fields
+     * @return the profile or {@code null} if the adaptive ordering is disabled or there is nothing to reorder
+     */
+    static FailureProfile create(int size) {
+        return enabled && size > 1 ? new FailureProfile(size) : null;
+    }
+
+    int[] getOrder() {
+        return order;
+    }
+
+    void recordFailure(int index) {
+        failureCounts[index].increment();
+        if (++pendingFailures >= REORDER_INTERVAL) {
+            pendingFailures = 0;
+            reorder();
+        }
+    }
+
+    private void reorder() {
+        int size = failureCounts.length;
+        long[] counts = new long[size];
+        for (int i = 0; i < size; i++) {
+            counts[i] = failureCounts[i].sum();
+        }
+        // A stable insertion sort in the descending order of the failures, as there are only a few entries
+        int[] newOrder = new int[size];
+        for (int i = 0; i < size; i++) {
+            int j = i;
+            while (j > 0 && counts[newOrder[j - 1]] < counts[i]) {
+                newOrder[j] = newOrder[j - 1];
+                j--;
+            }
+            newOrder[j] = i;
+        }
+        order = newOrder;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+/**
+ * The check of the value constraints of `@constraint:Int`.
+ * <p>
+ * The constraints are reduced to the range of the values satisfying all of them, so that a valid value is checked
+ * with two comparisons. The constraints are checked one by one only to report the failed constraints.
+ */
+final class IntValueCheck extends ConstraintCheck {
+
+    private final ValueConstraint[] constraints;
+    private final long[] bounds;
+    private final String[] messages;
+    private final long min;
+    private final long max;
+
+    IntValueCheck(ValueConstraint[] constraints, long[] bounds, String[] messages) {
+        this.constraints = constraints;
+        this.bounds = bounds;
+        this.messages = messages;
+        this.min = ValueConstraint.getMinValue(constraints, bounds);
+        this.max = ValueConstraint.getMaxValue(constraints, bounds);
+    }
+
+    @Override
+    int getCost() {
+        return VALUE_COST;
+    }
+
+    @Override
+    void validate(Object value, boolean isMemberValue, ValidationContext context) {
+        validateInt(((Number) value).longValue(), isMemberValue, context);
+    }
+
+    @Override
+    boolean isSatisfiedByAll(long[] values, int length) {
+        return RangeScan.isWithinRange(values, length, min, max);
+    }
+
+    @Override
+    void validateInt(long fieldValue, boolean isMemberValue, ValidationContext context) {
+        if (fieldValue >= min && fieldValue <= max) {
+            return;
+        }
+        for (int i = 0; i < constraints.length; i++) {
+            if (!constraints[i].isSatisfied(fieldValue, bounds[i])) {
+                context.addFailedConstraintInfo(constraints[i].getConstraintName(), messages[i], isMemberValue);
+            }
+        }
+    }
+}
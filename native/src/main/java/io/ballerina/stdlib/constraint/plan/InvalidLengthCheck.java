@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+import io.ballerina.stdlib.constraint.InternalValidationException;
+
+import static io.ballerina.stdlib.constraint.Constants.SYMBOL_SEPARATOR;
+
+/**
+ * The check of a length constraint with a non-positive value, which fails the validation when reached.
+ */
+final class InvalidLengthCheck extends ConstraintCheck {
+
+    private final String constraintName;
+
+    InvalidLengthCheck(String constraintName) {
+        this.constraintName = constraintName;
+    }
+
+    @Override
+    int getCost() {
+        return INVALID_CONSTRAINT_COST;
+    }
+
+    @Override
+    void validate(Object value, boolean isMemberValue, ValidationContext context) {
+        throw new InternalValidationException("invalid value found for " + context.getPath() + SYMBOL_SEPARATOR +
+                constraintName + " constraint. Length constraints should be positive");
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+import static io.ballerina.stdlib.constraint.Constants.CONSTRAINT_LENGTH;
+import static io.ballerina.stdlib.constraint.Constants.CONSTRAINT_MAX_LENGTH;
+import static io.ballerina.stdlib.constraint.Constants.CONSTRAINT_MIN_LENGTH;
+
+/**
+ * Represents the length related constraints.
+ */
+enum LengthConstraint {
+    LENGTH(CONSTRAINT_LENGTH),
+    MIN_LENGTH(CONSTRAINT_MIN_LENGTH),
+    MAX_LENGTH(CONSTRAINT_MAX_LENGTH);
+
+    private final String constraintName;
+
+    LengthConstraint(String constraintName) {
+        this.constraintName = constraintName;
+    }
+
+    String getConstraintName() {
+        return constraintName;
+    }
+
+    boolean isSatisfied(long length, long bound) {
+        switch (this) {
+            case LENGTH:
+                return length == bound;
+            case MIN_LENGTH:
+                return length >= bound;
+            default:
+                return length <= bound;
+        }
+    }
+
+    static LengthConstraint fromConstraintName(String constraintName) {
+        switch (constraintName) {
+            case CONSTRAINT_LENGTH:
+                return LENGTH;
+            case CONSTRAINT_MIN_LENGTH:
+                return MIN_LENGTH;
+            case CONSTRAINT_MAX_LENGTH:
+                return MAX_LENGTH;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The plan node to validate the constraints on the members of a map with the node of the member type.
+ * <p>
+ * The members are read one at a time from an iterator of the map, which is kept in the frame of the members, so that
+ * the validation context does not keep the members of a large map. The path of a member is the path of the map
+ * followed by the key of the member.
+ */
+final class MapNode extends ContainerNode {
+
+    private PlanNode memberNode;
+
+    void init(PlanNode memberNode) {
+        this.memberNode = memberNode;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    void validate(Object value, boolean isMemberValue, ValidationContext context) {
+        if (memberNode == null) {
+            return;
+        }
+        BMap<BString, Object> members = (BMap<BString, Object>) value;
+        int length = members.size();
+        if (length == 0) {
+            return;
+        }
+        context.pushMembers(this, members.entrySet().iterator(), length, true, context.reserveFieldValues(0));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    void validateMember(Object value, int memberIndex, boolean isMemberValue, int fieldValuesIndex,
+                        ValidationContext context) {
+        Map.Entry<BString, Object> member = ((Iterator<Map.Entry<BString, Object>>) value).next();
+        context.getPath().enterField(member.getKey().getValue());
+        if (member.getValue() != null) {
+            memberNode.validate(member.getValue(), true, context);
+        }
+    }
+
+    @Override
+    boolean hasConstraints() {
+        return false;
+    }
+
+    @Override
+    List<PlanNode> getChildNodes() {
+        return memberNode == null ? Collections.emptyList() : Collections.singletonList(memberNode);
+    }
+
+    @Override
+    void prune(Set<PlanNode> constrainedNodes) {
+        if (!constrainedNodes.contains(memberNode)) {
+            memberNode = null;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+import io.ballerina.runtime.api.values.BDecimal;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * The check of the value constraints of `@constraint:Number`.
+ * <p>
+ * The decimal values are compared exactly with the decimal bounds. {@link BigDecimal#compareTo} compares the
+ * unscaled values as long values without allocating, as long as both sides fit in a long once scaled to the same
+ * scale. The int values are compared with the bounds rounded to the enclosing long values, which is exact as well.
+ * The float values are compared with the bounds converted to float values.
+ * <p>
+ * The constraints are reduced to the range of the values satisfying all of them, so that a valid value is checked
+ * with two comparisons. The constraints are checked one by one only to report the failed constraints.
+ */
+final class NumberValueCheck extends ConstraintCheck {
+
+    private static final BigDecimal MIN_LONG = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal MAX_LONG = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    private final ValueConstraint[] constraints;
+    private final BigDecimal[] bounds;
+    private final double[] doubleBounds;
+    private final String[] messages;
+    // The lower and upper bounds of the range, or null if the range is not bounded on that side
+    private final BigDecimal min;
+    private final boolean minExclusive;
+    private final BigDecimal max;
+    private final boolean maxExclusive;
+    private final long longMin;
+    private final long longMax;
+    private final double doubleMin;
+    private final double doubleMax;
+
+    NumberValueCheck(ValueConstraint[] constraints, BigDecimal[] bounds, String[] messages) {
+        this.constraints = constraints;
+        this.bounds = bounds;
+        this.messages = messages;
+        this.doubleBounds = new double[bounds.length];
+        BigDecimal min = null;
+        boolean minExclusive = false;
+        BigDecimal max = null;
+        boolean maxExclusive = false;
+        for (int i = 0; i < constraints.length; i++) {
+            doubleBounds[i] = bounds[i].doubleValue();
+            boolean exclusive = constraints[i] == ValueConstraint.MIN_VALUE_EXCLUSIVE ||
+                    constraints[i] == ValueConstraint.MAX_VALUE_EXCLUSIVE;
+            if (constraints[i] == ValueConstraint.MIN_VALUE || constraints[i] == ValueConstraint.MIN_VALUE_EXCLUSIVE) {
+                int comparison = min == null ? 1 : bounds[i].compareTo(min);
+                if (comparison > 0 || (comparison == 0 && exclusive)) {
+                    min = bounds[i];
+                    minExclusive = exclusive;
+                }
+            } else {
+                int comparison = max == null ? -1 : bounds[i].compareTo(max);
+                if (comparison < 0 || (comparison == 0 && exclusive)) {
+                    max = bounds[i];
+                    maxExclusive = exclusive;
+                }
+            }
+        }
+        this.min = min;
+        this.minExclusive = minExclusive;
+        this.max = max;
+        this.maxExclusive = maxExclusive;
+        this.doubleMin = ValueConstraint.getMinValue(constraints, doubleBounds);
+        this.doubleMax = ValueConstraint.getMaxValue(constraints, doubleBounds);
+        long[] longRange = getLongRange(min, minExclusive, max, maxExclusive);
+        this.longMin = longRange[0];
+        this.longMax = longRange[1];
+    }
+
+    // Returns the range of the long values within the decimal range, which is empty if the minimum exceeds the maximum
+    private static long[] getLongRange(BigDecimal min, boolean minExclusive, BigDecimal max, boolean maxExclusive) {
+        BigDecimal longMin = MIN_LONG;
+        if (min != null) {
+            longMin = minExclusive ? min.setScale(0, RoundingMode.FLOOR).add(BigDecimal.ONE) :
+                    min.setScale(0, RoundingMode.CEILING);
+        }
+        BigDecimal longMax = MAX_LONG;
+        if (max != null) {
+            longMax = maxExclusive ? max.setScale(0, RoundingMode.CEILING).subtract(BigDecimal.ONE) :
+                    max.setScale(0, RoundingMode.FLOOR);
+        }
+        if (longMin.compareTo(longMax) > 0 || longMin.compareTo(MAX_LONG) > 0 || longMax.compareTo(MIN_LONG) < 0) {
+            return new long[]{Long.MAX_VALUE, Long.MIN_VALUE};
+        }
+        return new long[]{longMin.max(MIN_LONG).longValueExact(), longMax.min(MAX_LONG).longValueExact()};
+    }
+
+    @Override
+    int getCost() {
+        return VALUE_COST;
+    }
+
+    @Override
+    void validate(Object value, boolean isMemberValue, ValidationContext context) {
+        if (value instanceof BDecimal) {
+            validateDecimal(((BDecimal) value).value(), isMemberValue, context);
+        } else if (value instanceof Double) {
+            validateFloat((Double) value, isMemberValue, context);
+        } else {
+            validateInt(((Number) value).longValue(), isMemberValue, context);
+        }
+    }
+
+    private void validateDecimal(BigDecimal fieldValue, boolean isMemberValue, ValidationContext context) {
+        if (isAboveMin(fieldValue) && isBelowMax(fieldValue)) {
+            return;
+        }
+        for (int i = 0; i < constraints.length; i++) {
+            if (!constraints[i].isSatisfied(fieldValue.compareTo(bounds[i]))) {
+                context.addFailedConstraintInfo(constraints[i].getConstraintName(), messages[i], isMemberValue);
+            }
+        }
+    }
+
+    private boolean isAboveMin(BigDecimal fieldValue) {
+        if (min == null) {
+            return true;
+        }
+        int comparison = fieldValue.compareTo(min);
+        return minExclusive ? comparison > 0 : comparison >= 0;
+    }
+
+    private boolean isBelowMax(BigDecimal fieldValue) {
+        if (max == null) {
+            return true;
+        }
+        int comparison = fieldValue.compareTo(max);
+        return maxExclusive ? comparison < 0 : comparison <= 0;
+    }
+
+    @Override
+    boolean isSatisfiedByAll(long[] values, int length) {
+        return RangeScan.isWithinRange(values, length, longMin, longMax);
+    }
+
+    @Override
+    boolean isSatisfiedByAll(double[] values, int length) {
+        return RangeScan.isWithinRange(values, length, doubleMin, doubleMax);
+    }
+
+    @Override
+    void validateInt(long fieldValue, boolean isMemberValue, ValidationContext context) {
+        if (fieldValue >= longMin && fieldValue <= longMax) {
+            return;
+        }
+        BigDecimal decimalValue = BigDecimal.valueOf(fieldValue);
+        for (int i = 0; i < constraints.length; i++) {
+            if (!constraints[i].isSatisfied(decimalValue.compareTo(bounds[i]))) {
+                context.addFailedConstraintInfo(constraints[i].getConstraintName(), messages[i], isMemberValue);
+            }
+        }
+    }
+
+    @Override
+    void validateFloat(double fieldValue, boolean isMemberValue, ValidationContext context) {
+        if (fieldValue >= doubleMin && fieldValue <= doubleMax) {
+            return;
+        }
+        for (int i = 0; i < constraints.length; i++) {
+            if (!constraints[i].isSatisfied(fieldValue, doubleBounds[i])) {
+                context.addFailedConstraintInfo(constraints[i].getConstraintName(), messages[i], isMemberValue);
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+import io.ballerina.runtime.api.values.BRegexpValue;
+import io.ballerina.runtime.api.values.BString;
+import org.ballerinalang.langlib.regexp.Matches;
+
+import static io.ballerina.stdlib.constraint.Constants.CONSTRAINT_PATTERN;
+
+/**
+ * The check of the pattern constraint of `@constraint:String`.
+ */
+final class PatternCheck extends ConstraintCheck {
+
+    private final BRegexpValue pattern;
+    private final String message;
+
+    PatternCheck(BRegexpValue pattern, String message) {
+        this.pattern = pattern;
+        this.message = message;
+    }
+
+    @Override
+    int getCost() {
+        return PATTERN_COST;
+    }
+
+    @Override
+    void validate(Object value, boolean isMemberValue, ValidationContext context) {
+        if (!Matches.isFullMatch(pattern, (BString) value)) {
+            context.addFailedConstraintInfo(CONSTRAINT_PATTERN, message, isMemberValue);
+        }
+    }
+}
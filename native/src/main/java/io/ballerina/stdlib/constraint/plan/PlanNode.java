@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The abstract class to represent a node of a compiled validation plan.
+ */
+abstract class PlanNode {
+
+    /**
+     * Validates the constraints of a value. The members of the value are not validated here, but pushed to the
+     * context to be validated through {@link ContainerNode#validateMember}.
+     *
+     * @param value         the value to be validated
+     * @param isMemberValue whether the value is a member of an array
+     * @param context       the context of the validation
+     */
+    abstract void validate(Object value, boolean isMemberValue, ValidationContext context);
+
+    /**
+     * Checks whether the node has constraints of its own, regardless of the constraints of its child nodes.
+     *
+     * @return {@code true} if the node has constraints of its own
+     */
+    abstract boolean hasConstraints();
+
+    abstract List<PlanNode> getChildNodes();
+
+    /**
+     * Removes the child nodes which do not lead to any constraint.
+     *
+     * @param constrainedNodes the nodes which have constraints of their own or lead to a node with constraints
+     */
+    abstract void prune(Set<PlanNode> constrainedNodes);
+}
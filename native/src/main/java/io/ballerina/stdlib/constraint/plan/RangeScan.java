@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+/**
+ * Checks whether all the values in the primitive storage of an array are within a range.
+ * <p>
+ * The values are scanned in blocks with a branch-free loop, which the JIT compiler vectorizes, and the scan stops at
+ * the first block with a value out of the range. The values out of the range are located by the callers only when
+ * the scan fails.
+ */
+final class RangeScan {
+
+    private static final int BLOCK_SIZE = 1024;
+
+    static boolean isWithinRange(long[] values, int length, long min, long max) {
+        for (int start = 0; start < length; start += BLOCK_SIZE) {
+            int end = Math.min(start + BLOCK_SIZE, length);
+            int outOfRange = 0;
+            for (int i = start; i < end; i++) {
+                long value = values[i];
+                outOfRange |= (value < min | value > max) ? 1 : 0;
+            }
+            if (outOfRange != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isWithinRange(double[] values, int length, double min, double max) {
+        for (int start = 0; start < length; start += BLOCK_SIZE) {
+            int end = Math.min(start + BLOCK_SIZE, length);
+            int outOfRange = 0;
+            for (int i = start; i < end; i++) {
+                double value = values[i];
+                // NaN is out of any range, as both comparisons are false
+                outOfRange |= (value >= min & value <= max) ? 0 : 1;
+            }
+            if (outOfRange != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private RangeScan() {
+    }
+}
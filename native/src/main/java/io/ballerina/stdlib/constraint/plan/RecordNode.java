@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The plan node to validate the constraints on a record and its fields.
+ * <p>
+ * The keys of the fields are created once per record type. The constraints of the fields are validated before the
+ * nested values to retain the order of the failures, hence the values of the fields having both are read once and
+ * kept in the validation context until the nested values are validated.
+ */
+final class RecordNode extends ContainerNode {
+
+    private ConstraintCheck[] recordChecks;
+    private ConstraintCheck[] recordChecksByCost;
+    private FailureProfile recordChecksProfile;
+    private FieldNode[] constrainedFields;
+    private FailureProfile constrainedFieldsProfile;
+    private FieldNode[] nestedFields;
+    private int sharedFieldCount;
+
+    void init(ConstraintCheck[] recordChecks, FieldNode[] constrainedFields, FieldNode[] nestedFields) {
+        this.recordChecks = recordChecks;
+        this.recordChecksByCost = ConstraintCheckFactory.orderByCost(recordChecks);
+        this.recordChecksProfile = FailureProfile.create(recordChecks.length);
+        this.constrainedFields = constrainedFields;
+        this.constrainedFieldsProfile = FailureProfile.create(constrainedFields.length);
+        this.nestedFields = nestedFields;
+        for (FieldNode constrainedField : constrainedFields) {
+            for (FieldNode nestedField : nestedFields) {
+                if (constrainedField.name.equals(nestedField.name)) {
+                    constrainedField.slot = sharedFieldCount;
+                    nestedField.slot = sharedFieldCount;
+                    sharedFieldCount++;
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    void validate(Object value, boolean isMemberValue, ValidationContext context) {
+        BMap<BString, Object> record = (BMap<BString, Object>) value;
+        int failureCount = context.getFailureCount();
+        ConstraintCheck.validate(recordChecks, recordChecksByCost, recordChecksProfile, record, isMemberValue,
+                context);
+        boolean firstFailureOnly = context.isFirstFailureOnly();
+        if (firstFailureOnly && context.getFailureCount() > failureCount) {
+            return;
+        }
+        int sharedFieldsIndex = context.reserveFieldValues(sharedFieldCount);
+        int[] order = firstFailureOnly && constrainedFieldsProfile != null ? constrainedFieldsProfile.getOrder() :
+                null;
+        for (int i = 0; i < constrainedFields.length; i++) {
+            int index = order != null ? order[i] : i;
+            validateField(constrainedFields[index], record, isMemberValue, sharedFieldsIndex, context);
+            if (firstFailureOnly && context.getFailureCount() > failureCount) {
+                if (constrainedFieldsProfile != null) {
+                    constrainedFieldsProfile.recordFailure(index);
+                }
+                context.releaseFieldValues(sharedFieldsIndex);
+                return;
+            }
+        }
+        if (nestedFields.length > 0) {
+            context.pushMembers(this, record, nestedFields.length, isMemberValue, sharedFieldsIndex);
+        } else {
+            context.releaseFieldValues(sharedFieldsIndex);
+        }
+    }
+
+    private static void validateField(FieldNode field, BMap<BString, Object> record, boolean isMemberValue,
+                                      int sharedFieldsIndex, ValidationContext context) {
+        Object fieldValue = record.get(field.key);
+        if (field.slot >= 0) {
+            context.setFieldValue(sharedFieldsIndex + field.slot, fieldValue);
+        }
+        if (fieldValue != null) { // This can be null due to optional fields
+            ValidationPath path = context.getPath();
+            path.enterField(field.name);
+            ConstraintCheck.validate(field.checks, field.checksByCost, field.profile, fieldValue, isMemberValue,
+                    context);
+            path.exit();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    void validateMember(Object value, int memberIndex, boolean isMemberValue, int fieldValuesIndex,
+                        ValidationContext context) {
+        FieldNode field = nestedFields[memberIndex];
+        Object fieldValue = field.slot >= 0 ? context.getFieldValue(fieldValuesIndex + field.slot) :
+                ((BMap<BString, Object>) value).get(field.key);
+        context.getPath().enterField(field.name);
+        if (fieldValue != null) { // This can be null due to optional fields
+            field.node.validate(fieldValue, isMemberValue, context);
+        }
+    }
+
+    @Override
+    boolean hasConstraints() {
+        return recordChecks.length > 0 || constrainedFields.length > 0;
+    }
+
+    @Override
+    List<PlanNode> getChildNodes() {
+        List<PlanNode> childNodes = new ArrayList<>(nestedFields.length);
+        for (FieldNode field : nestedFields) {
+            childNodes.add(field.node);
+        }
+        return childNodes;
+    }
+
+    @Override
+    void prune(Set<PlanNode> constrainedNodes) {
+        nestedFields = Arrays.stream(nestedFields).filter(field -> constrainedNodes.contains(field.node))
+                .toArray(FieldNode[]::new);
+    }
+
+    /**
+     * Represents a record field with either the constraints attached to it or the plan of its type.
+     */
+    static final class FieldNode {
+
+        private final String name;
+        private final BString key;
+        private final ConstraintCheck[] checks;
+        private final ConstraintCheck[] checksByCost;
+        private final FailureProfile profile;
+        private final PlanNode node;
+        // The index of the value among the values of the fields read once, or -1 if the value is not shared
+        private int slot = -1;
+
+        FieldNode(String name, ConstraintCheck[] checks) {
+            this(name, checks, null);
+        }
+
+        FieldNode(String name, PlanNode node) {
+            this(name, new ConstraintCheck[0], node);
+        }
+
+        private FieldNode(String name, ConstraintCheck[] checks, PlanNode node) {
+            this.name = name;
+            this.key = StringUtils.fromString(name);
+            this.checks = checks;
+            this.checksByCost = ConstraintCheckFactory.orderByCost(checks);
+            this.profile = FailureProfile.create(checks.length);
+            this.node = node;
+        }
+    }
+}
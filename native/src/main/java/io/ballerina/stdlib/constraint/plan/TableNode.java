@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+import io.ballerina.runtime.api.values.BTable;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The plan node to validate the constraints on the rows of a table with the node of the row type.
+ * <p>
+ * The rows are read one at a time from an iterator of the table, which is kept in the frame of the rows, so that the
+ * validation context does not keep the rows of a large table. The path of a row is the path of the table followed by
+ * the position of the row.
+ */
+final class TableNode extends ContainerNode {
+
+    private PlanNode rowNode;
+
+    void init(PlanNode rowNode) {
+        this.rowNode = rowNode;
+    }
+
+    @Override
+    void validate(Object value, boolean isMemberValue, ValidationContext context) {
+        if (rowNode == null) {
+            return;
+        }
+        BTable<?, ?> rows = (BTable<?, ?>) value;
+        int length = rows.size();
+        if (length == 0) {
+            return;
+        }
+        context.pushMembers(this, rows.values().iterator(), length, true, context.reserveFieldValues(0));
+    }
+
+    @Override
+    void validateMember(Object value, int memberIndex, boolean isMemberValue, int fieldValuesIndex,
+                        ValidationContext context) {
+        context.getPath().enterIndex(memberIndex);
+        rowNode.validate(((Iterator<?>) value).next(), true, context);
+    }
+
+    @Override
+    boolean hasConstraints() {
+        return false;
+    }
+
+    @Override
+    List<PlanNode> getChildNodes() {
+        return rowNode == null ? Collections.emptyList() : Collections.singletonList(rowNode);
+    }
+
+    @Override
+    void prune(Set<PlanNode> constrainedNodes) {
+        if (!constrainedNodes.contains(rowNode)) {
+            rowNode = null;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+import io.ballerina.runtime.api.values.BArray;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The plan node to validate the constraints on the members of a tuple with the node of the type of each position,
+ * and the node of the rest type for the members beyond the positions.
+ */
+final class TupleNode extends ContainerNode {
+
+    private PlanNode[] memberNodes;
+    private PlanNode restNode;
+    // The number of the positions up to the last constrained position, which is resolved once the plan is pruned
+    private int constrainedLength;
+
+    void init(PlanNode[] memberNodes, PlanNode restNode) {
+        this.memberNodes = memberNodes;
+        this.restNode = restNode;
+        this.constrainedLength = memberNodes.length;
+    }
+
+    @Override
+    void validate(Object value, boolean isMemberValue, ValidationContext context) {
+        BArray members = (BArray) value;
+        int length = restNode != null ? members.size() : Math.min(members.size(), constrainedLength);
+        if (length > 0) {
+            context.pushMembers(this, members, length, true, context.reserveFieldValues(0));
+        }
+    }
+
+    @Override
+    void validateMember(Object value, int memberIndex, boolean isMemberValue, int fieldValuesIndex,
+                        ValidationContext context) {
+        PlanNode memberNode = memberIndex < memberNodes.length ? memberNodes[memberIndex] : restNode;
+        context.getPath().enterIndex(memberIndex);
+        if (memberNode != null) {
+            memberNode.validate(((BArray) value).get(memberIndex), true, context);
+        }
+    }
+
+    @Override
+    boolean hasConstraints() {
+        return false;
+    }
+
+    @Override
+    List<PlanNode> getChildNodes() {
+        List<PlanNode> childNodes = new ArrayList<>(memberNodes.length + 1);
+        for (PlanNode memberNode : memberNodes) {
+            if (memberNode != null) {
+                childNodes.add(memberNode);
+            }
+        }
+        if (restNode != null) {
+            childNodes.add(restNode);
+        }
+        return childNodes;
+    }
+
+    @Override
+    void prune(Set<PlanNode> constrainedNodes) {
+        for (int i = 0; i < memberNodes.length; i++) {
+            if (!constrainedNodes.contains(memberNodes[i])) {
+                memberNodes[i] = null;
+            }
+        }
+        if (!constrainedNodes.contains(restNode)) {
+            restNode = null;
+        }
+        constrainedLength = memberNodes.length;
+        while (constrainedLength > 0 && memberNodes[constrainedLength - 1] == null) {
+            constrainedLength--;
+        }
+    }
+}
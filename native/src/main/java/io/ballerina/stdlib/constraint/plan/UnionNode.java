@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.FiniteType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The plan node to validate the constraints of the union member matching the type of the value.
+ * <p>
+ * The member matching a value type is resolved once and indexed by the identity of the value type, as the values of
+ * a type share the same type instance. A value type matches the first member equal to it. Otherwise, a simple value
+ * matches the first member of the same basic type, as the type of a simple value does not retain the member type it
+ * belongs to.
+ * <p>
+ * When the members are closed records sharing a field whose singleton types differ across the members, the member
+ * is resolved by looking up the value of that field instead.
+ */
+final class UnionNode extends PlanNode {
+
+    private static final int NO_MATCHING_MEMBER = -1;
+    private static final int NO_SIMPLE_BASIC_TYPE = -1;
+    // Bounds the index, as the types created at runtime are not shared by the values
+    private static final int MAX_INDEXED_TYPES = 64;
+
+    private Type[] memberTypes;
+    private PlanNode[] memberNodes;
+    // Replaced as a whole when a value type is indexed, so that it is read without synchronization
+    private volatile Map<Type, Integer> memberIndexes = Collections.emptyMap();
+    // The field discriminating the members and the members by the value of the field, or null if there is none
+    private BString discriminatorKey;
+    private Map<Object, Integer> discriminatedMembers;
+
+    void init(Type[] memberTypes, PlanNode[] memberNodes) {
+        this.memberTypes = memberTypes;
+        this.memberNodes = memberNodes;
+        initDiscriminator();
+    }
+
+    private void initDiscriminator() {
+        if (memberTypes.length < 2 || !(memberTypes[0] instanceof RecordType)) {
+            return;
+        }
+        for (String fieldName : ((RecordType) memberTypes[0]).getFields().keySet()) {
+            Map<Object, Integer> members = new HashMap<>();
+            for (int i = 0; i < memberTypes.length; i++) {
+                Object fieldValue = getSingletonFieldValue(memberTypes[i], fieldName);
+                if (fieldValue == null || members.putIfAbsent(fieldValue, i) != null) {
+                    members = null;
+                    break;
+                }
+            }
+            if (members != null) {
+                discriminatorKey = StringUtils.fromString(fieldName);
+                discriminatedMembers = members;
+                return;
+            }
+        }
+    }
+
+    // Returns the value of the singleton type of the field, or null if the field does not discriminate the member
+    private static Object getSingletonFieldValue(Type memberType, String fieldName) {
+        if (!(memberType instanceof RecordType) || !((RecordType) memberType).isSealed()) {
+            return null;
+        }
+        Field field = ((RecordType) memberType).getFields().get(fieldName);
+        if (field == null) {
+            return null;
+        }
+        Type fieldType = TypeUtils.getReferredType(field.getFieldType());
+        if (!(fieldType instanceof FiniteType) || ((FiniteType) fieldType).getValueSpace().size() != 1) {
+            return null;
+        }
+        Object fieldValue = ((FiniteType) fieldType).getValueSpace().iterator().next();
+        // Only the values compared by value are used, so that the lookup matches the values of the records
+        return fieldValue instanceof BString || fieldValue instanceof Long || fieldValue instanceof Boolean ?
+                fieldValue : null;
+    }
+
+    @Override
+    void validate(Object value, boolean isMemberValue, ValidationContext context) {
+        if (discriminatorKey != null && value instanceof BMap) {
+            Integer memberIndex = discriminatedMembers.get(((BMap<?, ?>) value).get(discriminatorKey));
+            if (memberIndex != null) {
+                if (memberNodes[memberIndex] != null) {
+                    memberNodes[memberIndex].validate(value, isMemberValue, context);
+                }
+                return;
+            }
+        }
+        Type valueType;
+        if (value instanceof BMap) {
+            valueType = ((BMap<?, ?>) value).getTypedesc().getDescribingType();
+        } else {
+            valueType = TypeUtils.getType(value);
+        }
+        Integer memberIndex = memberIndexes.get(valueType);
+        int index = memberIndex != null ? memberIndex : indexMatchingMember(valueType);
+        if (index != NO_MATCHING_MEMBER && memberNodes[index] != null) {
+            memberNodes[index].validate(value, isMemberValue, context);
+        }
+    }
+
+    private synchronized int indexMatchingMember(Type valueType) {
+        int index = findMatchingMember(valueType);
+        if (memberIndexes.size() < MAX_INDEXED_TYPES) {
+            Map<Type, Integer> newMemberIndexes = new IdentityHashMap<>(memberIndexes);
+            newMemberIndexes.put(valueType, index);
+            memberIndexes = newMemberIndexes;
+        }
+        return index;
+    }
+
+    private int findMatchingMember(Type valueType) {
+        for (int i = 0; i < memberTypes.length; i++) {
+            if (memberTypes[i].equals(valueType)) {
+                return i;
+            }
+        }
+        int basicTypeTag = getSimpleBasicTypeTag(TypeUtils.getReferredType(valueType).getTag());
+        if (basicTypeTag == NO_SIMPLE_BASIC_TYPE) {
+            return NO_MATCHING_MEMBER;
+        }
+        for (int i = 0; i < memberTypes.length; i++) {
+            if (getSimpleBasicTypeTag(memberTypes[i].getTag()) == basicTypeTag) {
+                return i;
+            }
+        }
+        return NO_MATCHING_MEMBER;
+    }
+
+    private static int getSimpleBasicTypeTag(int tag) {
+        switch (tag) {
+            case TypeTags.INT_TAG:
+            case TypeTags.BYTE_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+                return TypeTags.INT_TAG;
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+                return TypeTags.STRING_TAG;
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.BOOLEAN_TAG:
+                return tag;
+            default:
+                return NO_SIMPLE_BASIC_TYPE;
+        }
+    }
+
+    @Override
+    boolean hasConstraints() {
+        return false;
+    }
+
+    @Override
+    List<PlanNode> getChildNodes() {
+        List<PlanNode> childNodes = new ArrayList<>(memberNodes.length);
+        for (PlanNode memberNode : memberNodes) {
+            if (memberNode != null) {
+                childNodes.add(memberNode);
+            }
+        }
+        return childNodes;
+    }
+
+    @Override
+    void prune(Set<PlanNode> constrainedNodes) {
+        // The member types are retained, as the value is not validated when it matches a member without constraints
+        for (int i = 0; i < memberNodes.length; i++) {
+            if (!constrainedNodes.contains(memberNodes[i])) {
+                memberNodes[i] = null;
+            }
+        }
+    }
+}
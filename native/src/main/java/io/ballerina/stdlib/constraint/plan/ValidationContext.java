@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+import io.ballerina.stdlib.constraint.ConstraintErrorInfo;
+import io.ballerina.stdlib.constraint.validators.DateClock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Holds the state of a single execution of a validation plan.
+ * <p>
+ * A context is kept per thread and reused by the subsequent validations on the thread, so that validating a value
+ * without constraint failures does not allocate the validation state.
+ * <p>
+ * The value is traversed with an explicit stack of frames instead of recursive calls, so that the depth of the value
+ * is not bounded by the stack of the thread. A node validates the constraints of a value and pushes a frame for the
+ * members of the value, which are validated one at a time in order, so that the failures are reported in the same
+ * order as a depth-first traversal. The nodes of the members are the same nodes for the recursive types.
+ * <p>
+ * When only the first failure is needed, the traversal is stopped once a constraint fails, so that the cost of
+ * rejecting a value depends on the position of the first failure rather than on the size of the value. Likewise,
+ * when the number of the failures to be reported is limited, the traversal is stopped once the limit is exceeded.
+ * The failures beyond the limit are counted but not retained.
+ * <p>
+ * The storage grown by an exceptionally large or deep value is dropped once the validation is complete, so that it
+ * is not retained by the thread.
+ */
+final class ValidationContext {
+
+    private static final ThreadLocal<ValidationContext> CONTEXTS = ThreadLocal.withInitial(ValidationContext::new);
+    // Avoid retaining the storage of an exceptionally large number of failures on the thread
+    private static final int MAX_RETAINED_FAILURES = 256;
+    private static final int INITIAL_FIELD_VALUES = 16;
+    private static final int MAX_RETAINED_FIELD_VALUES = 1024;
+    private static final int INITIAL_FRAMES = 16;
+    private static final int MAX_RETAINED_FRAMES = 256;
+    private static final long NO_EPOCH_DAY = Long.MIN_VALUE;
+
+    private List<ConstraintErrorInfo> failedConstraintsInfo = new ArrayList<>();
+    private final ValidationPath path = new ValidationPath();
+    private Object[] fieldValues = new Object[INITIAL_FIELD_VALUES];
+    private int fieldValuesSize;
+    private ContainerNode[] frameNodes;
+    private Object[] frameValues;
+    private int[] frameLengths;
+    private int[] frameCursors;
+    private int[] frameFieldValuesIndexes;
+    private boolean[] frameMemberValues;
+    private int frameCount;
+    private int failureCount;
+    private int maxFailures = ValidationPlan.NO_FAILURE_LIMIT;
+    private boolean firstFailureOnly;
+    private long todayEpochDay = NO_EPOCH_DAY;
+    private boolean inUse;
+
+    private ValidationContext() {
+        allocateFrames(INITIAL_FRAMES);
+    }
+
+    /**
+     * Acquires the context of the current thread, or a new context if the context of the thread is already in use.
+     *
+     * @return the context to be used by a validation
+     */
+    static ValidationContext acquire() {
+        ValidationContext context = CONTEXTS.get();
+        if (context.inUse) {
+            context = new ValidationContext();
+        }
+        context.inUse = true;
+        return context;
+    }
+
+    /**
+     * Resets the context so that it can be reused by the next validation.
+     */
+    void release() {
+        if (failedConstraintsInfo.size() > MAX_RETAINED_FAILURES) {
+            failedConstraintsInfo = new ArrayList<>();
+        } else {
+            failedConstraintsInfo.clear();
+        }
+        path.reset();
+        if (fieldValues.length > MAX_RETAINED_FIELD_VALUES) {
+            fieldValues = new Object[INITIAL_FIELD_VALUES];
+            fieldValuesSize = 0;
+        } else {
+            releaseFieldValues(0);
+        }
+        if (frameNodes.length > MAX_RETAINED_FRAMES) {
+            allocateFrames(INITIAL_FRAMES);
+        } else {
+            // The frames are left behind if the validation was stopped or ended with an exception
+            Arrays.fill(frameNodes, 0, frameCount, null);
+            Arrays.fill(frameValues, 0, frameCount, null);
+        }
+        frameCount = 0;
+        failureCount = 0;
+        maxFailures = ValidationPlan.NO_FAILURE_LIMIT;
+        firstFailureOnly = false;
+        todayEpochDay = NO_EPOCH_DAY;
+        inUse = false;
+    }
+
+    private void allocateFrames(int capacity) {
+        frameNodes = new ContainerNode[capacity];
+        frameValues = new Object[capacity];
+        frameLengths = new int[capacity];
+        frameCursors = new int[capacity];
+        frameFieldValuesIndexes = new int[capacity];
+        frameMemberValues = new boolean[capacity];
+    }
+
+    /**
+     * Validates a value and its members against the plan rooted at the given node.
+     *
+     * @param root  the root node of the plan
+     * @param value the value to be validated
+     */
+    void validate(PlanNode root, Object value) {
+        root.validate(value, false, this);
+        // The frames left behind by a stopped validation are released along with the context
+        while (frameCount > 0 && !isStopped()) {
+            int top = frameCount - 1;
+            int cursor = frameCursors[top];
+            if (cursor > 0) {
+                // The previous member and its own members are validated
+                path.exit();
+            }
+            if (cursor == frameLengths[top]) {
+                releaseFieldValues(frameFieldValuesIndexes[top]);
+                frameNodes[top] = null;
+                frameValues[top] = null;
+                frameCount = top;
+                continue;
+            }
+            frameCursors[top] = cursor + 1;
+            frameNodes[top].validateMember(frameValues[top], cursor, frameMemberValues[top],
+                    frameFieldValuesIndexes[top], this);
+        }
+    }
+
+    /**
+     * Schedules the members of a value to be validated by the node once the node returns. The values kept in the
+     * context from the given index onwards are released once the members are validated.
+     *
+     * @param node             the node which validates the members
+     * @param value            the value of which the members are validated, or an iterator of the members
+     * @param length           the number of members
+     * @param isMemberValue    whether the value is a member of an array
+     * @param fieldValuesIndex the index of the first value kept for the members
+     */
+    void pushMembers(ContainerNode node, Object value, int length, boolean isMemberValue, int fieldValuesIndex) {
+        if (frameCount == frameNodes.length) {
+            int capacity = frameCount * 2;
+            frameNodes = Arrays.copyOf(frameNodes, capacity);
+            frameValues = Arrays.copyOf(frameValues, capacity);
+            frameLengths = Arrays.copyOf(frameLengths, capacity);
+            frameCursors = Arrays.copyOf(frameCursors, capacity);
+            frameFieldValuesIndexes = Arrays.copyOf(frameFieldValuesIndexes, capacity);
+            frameMemberValues = Arrays.copyOf(frameMemberValues, capacity);
+        }
+        frameNodes[frameCount] = node;
+        frameValues[frameCount] = value;
+        frameLengths[frameCount] = length;
+        frameCursors[frameCount] = 0;
+        frameFieldValuesIndexes[frameCount] = fieldValuesIndex;
+        frameMemberValues[frameCount] = isMemberValue;
+        frameCount++;
+    }
+
+    /**
+     * Checks whether only the first failure is needed, in which case the checks of a value are run in the order of
+     * their costs, or of their failures if profiled, and the validation is stopped once a check fails.
+     *
+     * @return {@code true} if only the first failure is needed
+     */
+    boolean isFirstFailureOnly() {
+        return firstFailureOnly;
+    }
+
+    void setMaxFailures(int maxFailures) {
+        this.maxFailures = maxFailures;
+    }
+
+    /**
+     * Checks whether the validation is stopped, in which case the nodes return without validating the remaining
+     * values.
+     *
+     * @return {@code true} if only the first failure is needed and a constraint has failed, or if the number of the
+     * failures exceeds the limit
+     */
+    boolean isStopped() {
+        return failureCount > 0 && (firstFailureOnly || failureCount > maxFailures);
+    }
+
+    void setFirstFailureOnly(boolean firstFailureOnly) {
+        this.firstFailureOnly = firstFailureOnly;
+    }
+
+    /**
+     * Returns the current date, which is read once per validation so that the dates of a value are compared with the
+     * same date.
+     *
+     * @return the epoch day of the current date
+     */
+    long getTodayEpochDay() {
+        if (todayEpochDay == NO_EPOCH_DAY) {
+            todayEpochDay = DateClock.getTodayEpochDay();
+        }
+        return todayEpochDay;
+    }
+
+    ValidationPath getPath() {
+        return path;
+    }
+
+    /**
+     * Reserves the space to keep the values of the record fields which are read once and validated more than once.
+     *
+     * @param count the number of values to be kept
+     * @return the index of the first reserved value
+     */
+    int reserveFieldValues(int count) {
+        int index = fieldValuesSize;
+        if (index + count > fieldValues.length) {
+            fieldValues = Arrays.copyOf(fieldValues, Math.max(fieldValues.length * 2, index + count));
+        }
+        fieldValuesSize += count;
+        return index;
+    }
+
+    void setFieldValue(int index, Object value) {
+        fieldValues[index] = value;
+    }
+
+    Object getFieldValue(int index) {
+        return fieldValues[index];
+    }
+
+    /**
+     * Releases the values reserved from the given index onwards.
+     *
+     * @param index the index of the first value to be released
+     */
+    void releaseFieldValues(int index) {
+        Arrays.fill(fieldValues, index, fieldValuesSize, null);
+        fieldValuesSize = index;
+    }
+
+    /**
+     * Returns the number of the failures found so far, including the failures beyond the limit which are not
+     * retained.
+     *
+     * @return the number of the failures
+     */
+    int getFailureCount() {
+        return failureCount;
+    }
+
+    List<ConstraintErrorInfo> getFailedConstraintsInfo() {
+        return failedConstraintsInfo;
+    }
+
+    /**
+     * Returns the failed constraints detached from the context, as the context is reused after the validation.
+     *
+     * @return the failed constraints
+     */
+    List<ConstraintErrorInfo> copyFailedConstraintsInfo() {
+        return new ArrayList<>(failedConstraintsInfo);
+    }
+
+    /**
+     * Counts the failures added to the failed constraints directly by the validators, and removes the failures beyond
+     * the limit.
+     *
+     * @param previousSize the number of the failed constraints before the failures were added
+     */
+    void countAddedFailures(int previousSize) {
+        int size = failedConstraintsInfo.size();
+        failureCount += size - previousSize;
+        if (size > maxFailures) {
+            failedConstraintsInfo.subList(maxFailures, size).clear();
+        }
+    }
+
+    void addFailedConstraintInfo(String failedConstraint, String message, boolean isMemberValue) {
+        if (++failureCount > maxFailures) {
+            return;
+        }
+        failedConstraintsInfo.add(new ConstraintErrorInfo(path.toString(), message, failedConstraint,
+                isMemberValue));
+    }
+}
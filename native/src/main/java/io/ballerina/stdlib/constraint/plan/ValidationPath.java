@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+import java.util.Arrays;
+
+import static io.ballerina.stdlib.constraint.Constants.SYMBOL_CLOSE_SQUARE_BRACKET;
+import static io.ballerina.stdlib.constraint.Constants.SYMBOL_DOLLAR_SIGN;
+import static io.ballerina.stdlib.constraint.Constants.SYMBOL_DOT;
+import static io.ballerina.stdlib.constraint.Constants.SYMBOL_OPEN_SQUARE_BRACKET;
+
+/**
+ * Represents the path to the value being validated, relative to the root value denoted by {@code $}.
+ * <p>
+ * The path is kept as a stack of segments which is updated while the value is traversed, and it is rendered as a
+ * string only when a constraint fails.
+ */
+final class ValidationPath {
+
+    private static final int INITIAL_DEPTH = 8;
+    // Avoid retaining the storage of an exceptionally deep path on the thread
+    private static final int MAX_RETAINED_DEPTH = 256;
+
+    // A null field name denotes an array index segment
+    private String[] fieldNames = new String[INITIAL_DEPTH];
+    private long[] indexes = new long[INITIAL_DEPTH];
+    private int depth;
+
+    void enterField(String fieldName) {
+        ensureCapacity();
+        fieldNames[depth] = fieldName;
+        depth++;
+    }
+
+    void enterIndex(long index) {
+        ensureCapacity();
+        fieldNames[depth] = null;
+        indexes[depth] = index;
+        depth++;
+    }
+
+    void exit() {
+        depth--;
+    }
+
+    void reset() {
+        depth = 0;
+        if (fieldNames.length > MAX_RETAINED_DEPTH) {
+            fieldNames = new String[INITIAL_DEPTH];
+            indexes = new long[INITIAL_DEPTH];
+        } else {
+            Arrays.fill(fieldNames, null);
+        }
+    }
+
+    private void ensureCapacity() {
+        if (depth == fieldNames.length) {
+            fieldNames = Arrays.copyOf(fieldNames, depth * 2);
+            indexes = Arrays.copyOf(indexes, depth * 2);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder path = new StringBuilder(SYMBOL_DOLLAR_SIGN);
+        for (int i = 0; i < depth; i++) {
+            if (fieldNames[i] != null) {
+                path.append(SYMBOL_DOT).append(fieldNames[i]);
+            } else {
+                path.append(SYMBOL_OPEN_SQUARE_BRACKET).append(indexes[i]).append(SYMBOL_CLOSE_SQUARE_BRACKET);
+            }
+        }
+        return path.toString();
+    }
+}
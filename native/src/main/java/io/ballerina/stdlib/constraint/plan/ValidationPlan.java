@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+import io.ballerina.runtime.api.types.Type;
+
+import java.util.Collections;
+
+/**
+ * Represents the compiled constraints of a type. A plan can be shared across strands.
+ * <p>
+ * The checks of a plan resolve the constraint values and messages when the plan is built and compare the values
+ * directly, hence the plan is not changed by the validations.
+ */
+public final class ValidationPlan {
+
+    public static final int NO_FAILURE_LIMIT = Integer.MAX_VALUE;
+
+    private static final ValidationResult NO_FAILURES = new ValidationResult(Collections.emptyList(), 0);
+
+    private final Type type;
+    private final PlanNode root;
+
+    ValidationPlan(Type type, PlanNode root) {
+        this.type = type;
+        this.root = root;
+    }
+
+    /**
+     * Builds a validation plan for the given type without caching it.
+     *
+     * @param type the type to be validated
+     * @return the validation plan of the type
+     */
+    public static ValidationPlan build(Type type) {
+        return ValidationPlanBuilder.build(type);
+    }
+
+    /**
+     * Enables or disables the adaptive ordering of the checks for the plans built afterwards. The plans already
+     * built, including the cached ones, keep the ordering they were built with.
+     *
+     * @param adaptiveCheckOrdering whether to order the checks by their failures
+     */
+    public static void setAdaptiveCheckOrdering(boolean adaptiveCheckOrdering) {
+        FailureProfile.setEnabled(adaptiveCheckOrdering);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Validates a value against the plan.
+     *
+     * @param value       the value to be validated
+     * @param failFast    whether to stop the validation at the first failed constraint
+     * @param maxFailures the maximum number of the failed constraints to be reported, beyond which the validation is
+     *                    stopped, or {@link #NO_FAILURE_LIMIT}
+     * @return the failed constraints, which is only the first failed constraint if the validation fails fast, and
+     * the number of the failed constraints found
+     */
+    public ValidationResult validate(Object value, boolean failFast, int maxFailures) {
+        if (root == null) {
+            return NO_FAILURES;
+        }
+        ValidationContext context = ValidationContext.acquire();
+        context.setFirstFailureOnly(failFast);
+        context.setMaxFailures(failFast ? 1 : maxFailures);
+        try {
+            context.validate(root, value);
+            if (context.getFailureCount() == 0) {
+                return NO_FAILURES;
+            }
+            return new ValidationResult(context.copyFailedConstraintsInfo(), context.getFailureCount());
+        } finally {
+            context.release();
+        }
+    }
+}
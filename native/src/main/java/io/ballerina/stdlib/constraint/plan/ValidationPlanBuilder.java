@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.AnnotatableType;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.IntersectionType;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.types.TupleType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.constraint.plan.RecordNode.FieldNode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Compiles the constraint annotations reachable from a type into a validation plan. The plan nodes are memoized per
+ * type while building, so that recursive types resolve to the same node. The nodes which do not lead to any
+ * constraint are removed from the plan once it is built.
+ */
+final class ValidationPlanBuilder {
+
+    private static final ConstraintCheck[] NO_CHECKS = new ConstraintCheck[0];
+    private static final FieldNode[] NO_FIELDS = new FieldNode[0];
+
+    private final Map<Type, PlanNode> valueNodes = new IdentityHashMap<>();
+    private final Map<Type, PlanNode> recordNodes = new IdentityHashMap<>();
+    private final Map<Type, PlanNode> annotatedTypeNodes = new IdentityHashMap<>();
+    private final Map<Type, PlanNode> unionNodes = new IdentityHashMap<>();
+
+    static ValidationPlan build(Type type) {
+        return new ValidationPlan(type, pruneUnconstrainedNodes(new ValidationPlanBuilder().buildValueNode(type)));
+    }
+
+    /**
+     * Removes the nodes which do not lead to any constraint, so that the validation skips the parts of the value
+     * without constraints. As the nodes of recursive types form cycles, the nodes with constraints of their own are
+     * propagated to their parent nodes instead of checking the child nodes recursively.
+     *
+     * @param root the root node of the plan
+     * @return the root node or {@code null} if there is nothing to validate
+     */
+    private static PlanNode pruneUnconstrainedNodes(PlanNode root) {
+        if (root == null) {
+            return null;
+        }
+        Map<PlanNode, List<PlanNode>> parentNodes = new IdentityHashMap<>();
+        Deque<PlanNode> pendingNodes = new ArrayDeque<>();
+        parentNodes.put(root, new ArrayList<>());
+        pendingNodes.push(root);
+        while (!pendingNodes.isEmpty()) {
+            PlanNode node = pendingNodes.pop();
+            for (PlanNode childNode : node.getChildNodes()) {
+                List<PlanNode> parents = parentNodes.get(childNode);
+                if (parents == null) {
+                    parents = new ArrayList<>();
+                    parentNodes.put(childNode, parents);
+                    pendingNodes.push(childNode);
+                }
+                parents.add(node);
+            }
+        }
+        Set<PlanNode> constrainedNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (PlanNode node : parentNodes.keySet()) {
+            if (node.hasConstraints() && constrainedNodes.add(node)) {
+                pendingNodes.push(node);
+            }
+        }
+        while (!pendingNodes.isEmpty()) {
+            for (PlanNode parent : parentNodes.get(pendingNodes.pop())) {
+                if (constrainedNodes.add(parent)) {
+                    pendingNodes.push(parent);
+                }
+            }
+        }
+        for (PlanNode node : parentNodes.keySet()) {
+            node.prune(constrainedNodes);
+        }
+        return constrainedNodes.contains(root) ? root : null;
+    }
+
+    private ValidationPlanBuilder() {
+    }
+
+    private PlanNode buildValueNode(Type type) {
+        if (valueNodes.containsKey(type)) {
+            return valueNodes.get(type);
+        }
+        if (type instanceof ArrayType) {
+            ArrayNode arrayNode = new ArrayNode();
+            valueNodes.put(type, arrayNode);
+            arrayNode.init(buildValueNode(((ArrayType) type).getElementType()));
+            return arrayNode;
+        }
+        Type effectiveType = type.isReadOnly() ? getTypeFromReadOnly(type) : type;
+        if (isMemberContainerType(effectiveType)) {
+            return buildMemberContainerNode(type, effectiveType);
+        }
+        PlanNode node = null;
+        if (effectiveType instanceof RecordType) {
+            node = buildRecordNode((RecordType) effectiveType);
+        } else if (effectiveType instanceof AnnotatableType) {
+            node = buildAnnotatedTypeNode((AnnotatableType) effectiveType);
+        } else if (effectiveType instanceof UnionType) {
+            node = buildUnionNode((UnionType) effectiveType);
+        }
+        valueNodes.put(type, node);
+        return node;
+    }
+
+    private static boolean isMemberContainerType(Type type) {
+        return type instanceof MapType || type instanceof TableType || type instanceof TupleType;
+    }
+
+    /**
+     * Builds the node of a map, a table or a tuple, of which the members are validated with the value nodes of the
+     * member types. The node is memoized before building the member nodes, as the member types may refer back to it.
+     *
+     * @param type          the type to be validated
+     * @param effectiveType the map, table or tuple type of the type
+     * @return the node of the type
+     */
+    private PlanNode buildMemberContainerNode(Type type, Type effectiveType) {
+        if (effectiveType instanceof MapType) {
+            MapNode mapNode = new MapNode();
+            valueNodes.put(type, mapNode);
+            mapNode.init(buildValueNode(((MapType) effectiveType).getConstrainedType()));
+            return mapNode;
+        } else if (effectiveType instanceof TableType) {
+            TableNode tableNode = new TableNode();
+            valueNodes.put(type, tableNode);
+            tableNode.init(buildValueNode(((TableType) effectiveType).getConstrainedType()));
+            return tableNode;
+        }
+        TupleNode tupleNode = new TupleNode();
+        valueNodes.put(type, tupleNode);
+        List<Type> tupleTypes = ((TupleType) effectiveType).getTupleTypes();
+        PlanNode[] memberNodes = new PlanNode[tupleTypes.size()];
+        for (int i = 0; i < memberNodes.length; i++) {
+            memberNodes[i] = buildValueNode(tupleTypes.get(i));
+        }
+        Type restType = ((TupleType) effectiveType).getRestType();
+        tupleNode.init(memberNodes, restType != null ? buildValueNode(restType) : null);
+        return tupleNode;
+    }
+
+    @SuppressWarnings("unchecked")
+    private PlanNode buildRecordNode(RecordType type) {
+        if (recordNodes.containsKey(type)) {
+            return recordNodes.get(type);
+        }
+        RecordNode recordNode = new RecordNode();
+        recordNodes.put(type, recordNode);
+        BMap<BString, Object> annotations = type.getAnnotations();
+        List<FieldNode> constrainedFields = new ArrayList<>();
+        for (Map.Entry<BString, Object> entry : annotations.entrySet()) {
+            String fieldName = AnnotationKey.of(entry.getKey().getValue()).getFieldName();
+            if (fieldName != null) {
+                ConstraintCheck[] checks = buildChecks((BMap<BString, Object>) entry.getValue());
+                if (checks.length > 0) {
+                    constrainedFields.add(new FieldNode(fieldName, checks));
+                }
+            }
+        }
+        List<FieldNode> nestedFields = new ArrayList<>();
+        for (Field recordField : type.getFields().values()) {
+            PlanNode fieldNode = buildFieldNode(recordField.getFieldType());
+            if (fieldNode != null) {
+                nestedFields.add(new FieldNode(recordField.getFieldName(), fieldNode));
+            }
+        }
+        recordNode.init(buildChecks(annotations), constrainedFields.toArray(NO_FIELDS),
+                nestedFields.toArray(NO_FIELDS));
+        return recordNode;
+    }
+
+    private PlanNode buildFieldNode(Type fieldType) {
+        if (isMemberContainerType(fieldType)) {
+            return buildValueNode(fieldType);
+        } else if (fieldType instanceof RecordType) {
+            return buildRecordNode((RecordType) fieldType);
+        } else if (fieldType instanceof AnnotatableType) {
+            return buildAnnotatedTypeNode((AnnotatableType) fieldType);
+        } else if (fieldType instanceof ArrayType) {
+            Type elementType = ((ArrayType) fieldType).getElementType();
+            if (elementType instanceof RecordType) {
+                return buildArrayNode(buildRecordNode((RecordType) elementType));
+            } else if (elementType instanceof AnnotatableType) {
+                return buildArrayNode(buildAnnotatedTypeNode((AnnotatableType) elementType));
+            }
+        }
+        return null;
+    }
+
+    private PlanNode buildAnnotatedTypeNode(AnnotatableType type) {
+        if (annotatedTypeNodes.containsKey(type)) {
+            return annotatedTypeNodes.get(type);
+        }
+        AnnotatedTypeNode annotatedTypeNode = new AnnotatedTypeNode();
+        annotatedTypeNodes.put(type, annotatedTypeNode);
+        PlanNode referredTypeNode = null;
+        if (type.getTag() == TypeTags.TYPE_REFERENCED_TYPE_TAG) {
+            referredTypeNode = buildReferredTypeNode(type);
+        }
+        annotatedTypeNode.init(buildChecks(type.getAnnotations()), referredTypeNode);
+        return annotatedTypeNode;
+    }
+
+    private PlanNode buildReferredTypeNode(Type type) {
+        Type referredType = TypeUtils.getReferredType(type);
+        if (referredType.isReadOnly() && referredType instanceof IntersectionType) {
+            referredType = getMutableType((IntersectionType) referredType, referredType);
+        }
+        if (isMemberContainerType(referredType)) {
+            return buildValueNode(referredType);
+        } else if (referredType instanceof RecordType) {
+            return buildRecordNode((RecordType) referredType);
+        } else if (referredType instanceof AnnotatableType) {
+            return buildAnnotatedTypeNode((AnnotatableType) referredType);
+        } else if (referredType instanceof ArrayType) {
+            Type elementType = ((ArrayType) referredType).getElementType();
+            if (elementType.getTag() == TypeTags.TYPE_REFERENCED_TYPE_TAG && elementType instanceof AnnotatableType) {
+                return buildArrayNode(buildAnnotatedTypeNode((AnnotatableType) elementType));
+            }
+        }
+        return null;
+    }
+
+    private PlanNode buildUnionNode(UnionType type) {
+        if (unionNodes.containsKey(type)) {
+            return unionNodes.get(type);
+        }
+        UnionNode unionNode = new UnionNode();
+        unionNodes.put(type, unionNode);
+        List<Type> members = type.getMemberTypes();
+        Type[] memberTypes = new Type[members.size()];
+        PlanNode[] memberNodes = new PlanNode[members.size()];
+        for (int i = 0; i < members.size(); i++) {
+            memberTypes[i] = TypeUtils.getReferredType(members.get(i));
+            memberNodes[i] = buildValueNode(members.get(i));
+        }
+        unionNode.init(memberTypes, memberNodes);
+        return unionNode;
+    }
+
+    private static PlanNode buildArrayNode(PlanNode memberNode) {
+        ArrayNode arrayNode = new ArrayNode();
+        arrayNode.init(memberNode);
+        return arrayNode;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ConstraintCheck[] buildChecks(BMap<BString, Object> annotations) {
+        List<ConstraintCheck> checks = new ArrayList<>();
+        for (Map.Entry<BString, Object> annotation : annotations.entrySet()) {
+            ConstraintTag tag = AnnotationKey.of(annotation.getKey().getValue()).getTag();
+            if (tag != null) {
+                ConstraintCheckFactory.addChecks(tag, (BMap<BString, Object>) annotation.getValue(), checks);
+            }
+        }
+        if (checks.isEmpty()) {
+            return NO_CHECKS;
+        }
+        return ConstraintCheckFactory.internChecks(checks.toArray(NO_CHECKS));
+    }
+
+    private static Type getTypeFromReadOnly(Type type) {
+        IntersectionType intersectionType = null;
+        if (type instanceof RecordType) {
+            Optional<IntersectionType> optionalIntersectionType = ((RecordType) type).getIntersectionType();
+            if (optionalIntersectionType.isPresent()) {
+                intersectionType = optionalIntersectionType.get();
+            }
+        } else if (type instanceof IntersectionType) {
+            intersectionType = (IntersectionType) type;
+        }
+        return intersectionType != null ? getMutableType(intersectionType, type) : type;
+    }
+
+    private static Type getMutableType(IntersectionType intersectionType, Type defaultType) {
+        List<Type> constituentTypes = intersectionType.getConstituentTypes();
+        if (constituentTypes.size() == 2) {
+            if (constituentTypes.get(0).getTag() == TypeTags.READONLY_TAG) {
+                return TypeUtils.getReferredType(constituentTypes.get(1));
+            } else {
+                return TypeUtils.getReferredType(constituentTypes.get(0));
+            }
+        }
+        return defaultType;
+    }
+}
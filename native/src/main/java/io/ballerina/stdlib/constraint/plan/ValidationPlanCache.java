@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+import io.ballerina.runtime.api.types.Type;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The cache of the validation plans shared across strands.
+ * <p>
+ * Runtime types implement {@code equals} based on the type name, hence distinct types can be equal to each other.
+ * The plans are therefore looked up by type identity within the entries of an equal type. The number of plans is
+ * bounded so that the types created at runtime cannot grow the cache indefinitely. The entries are evicted in the
+ * insertion order, giving a second chance to the entries used since the last eviction. The plans of the registered
+ * types are never evicted.
+ */
+public final class ValidationPlanCache {
+
+    private static final int MAX_CACHED_PLANS = 4096;
+
+    private static final ConcurrentHashMap<Type, CacheEntry[]> PLANS = new ConcurrentHashMap<>();
+    private static final Queue<CacheEntry> ENTRIES = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger SIZE = new AtomicInteger();
+
+    public static ValidationPlan getPlan(Type type) {
+        CacheEntry entry = findEntry(PLANS.get(type), type);
+        if (entry != null) {
+            entry.markReferenced();
+            return entry.plan;
+        }
+        return addPlan(type, false).plan;
+    }
+
+    /**
+     * Builds and caches the validation plan of a type ahead of its first validation, so that the first validation
+     * performs the same as the subsequent ones. The plan is kept for the lifetime of the program.
+     *
+     * @param type the type to be validated
+     */
+    public static void register(Type type) {
+        CacheEntry entry = findEntry(PLANS.get(type), type);
+        if (entry != null) {
+            entry.pinned = true;
+        } else {
+            addPlan(type, true).pinned = true;
+        }
+    }
+
+    /**
+     * Removes all the plans, including the plans of the registered types, so that the plans are rebuilt on their next
+     * validation.
+     */
+    public static void clear() {
+        PLANS.clear();
+        ENTRIES.clear();
+        SIZE.set(0);
+    }
+
+    private static CacheEntry addPlan(Type type, boolean pinned) {
+        ValidationPlan plan = ValidationPlanBuilder.build(type);
+        CacheEntry newEntry = new CacheEntry(plan);
+        newEntry.pinned = pinned;
+        CacheEntry[] entries = PLANS.compute(type, (key, existingEntries) -> {
+            if (findEntry(existingEntries, type) != null) {
+                return existingEntries;
+            }
+            return addEntry(existingEntries, newEntry);
+        });
+        CacheEntry entry = findEntry(entries, type);
+        if (entry == newEntry && !pinned) {
+            ENTRIES.offer(newEntry);
+            if (SIZE.incrementAndGet() > MAX_CACHED_PLANS) {
+                evictEntries();
+            }
+        }
+        return entry;
+    }
+
+    private static void evictEntries() {
+        // Each entry gets at most one second chance, hence this loop is bounded by twice the size of the cache
+        while (SIZE.get() > MAX_CACHED_PLANS) {
+            CacheEntry entry = ENTRIES.poll();
+            if (entry == null) {
+                return;
+            }
+            if (entry.pinned) {
+                // The entry is dropped from the eviction queue as it is no longer bounded by the cache size
+                SIZE.decrementAndGet();
+                continue;
+            }
+            if (entry.referenced) {
+                entry.referenced = false;
+                ENTRIES.offer(entry);
+                continue;
+            }
+            PLANS.computeIfPresent(entry.plan.getType(), (key, entries) -> removeEntry(entries, entry));
+            SIZE.decrementAndGet();
+        }
+    }
+
+    private static CacheEntry findEntry(CacheEntry[] entries, Type type) {
+        if (entries == null) {
+            return null;
+        }
+        for (CacheEntry entry : entries) {
+            if (entry.plan.getType() == type) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private static CacheEntry[] addEntry(CacheEntry[] entries, CacheEntry entry) {
+        if (entries == null) {
+            return new CacheEntry[]{entry};
+        }
+        CacheEntry[] newEntries = Arrays.copyOf(entries, entries.length + 1);
+        newEntries[entries.length] = entry;
+        return newEntries;
+    }
+
+    private static CacheEntry[] removeEntry(CacheEntry[] entries, CacheEntry entry) {
+        CacheEntry[] newEntries = Arrays.stream(entries).filter(e -> e != entry).toArray(CacheEntry[]::new);
+        return newEntries.length == 0 ? null : newEntries;
+    }
+
+    private ValidationPlanCache() {
+    }
+
+    /**
+     * Represents a cached validation plan.
+     */
+    private static final class CacheEntry {
+
+        private final ValidationPlan plan;
+        private volatile boolean referenced;
+        private volatile boolean pinned;
+
+        CacheEntry(ValidationPlan plan) {
+            this.plan = plan;
+        }
+
+        void markReferenced() {
+            // Avoid writing the shared field on every lookup of a hot plan
+            if (!referenced) {
+                referenced = true;
+            }
+        }
+    }
+}
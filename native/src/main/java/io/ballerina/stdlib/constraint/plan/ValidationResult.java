@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+import io.ballerina.stdlib.constraint.ConstraintErrorInfo;
+
+import java.util.List;
+
+/**
+ * Represents the failed constraints found by a validation.
+ * <p>
+ * When the number of the failed constraints is limited, the validation is stopped once the limit is exceeded, hence
+ * the failure count is the number of the failed constraints found before the validation was stopped.
+ */
+public final class ValidationResult {
+
+    private final List<ConstraintErrorInfo> failedConstraintsInfo;
+    private final int failureCount;
+
+    ValidationResult(List<ConstraintErrorInfo> failedConstraintsInfo, int failureCount) {
+        this.failedConstraintsInfo = failedConstraintsInfo;
+        this.failureCount = failureCount;
+    }
+
+    public List<ConstraintErrorInfo> getFailedConstraintsInfo() {
+        return failedConstraintsInfo;
+    }
+
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Checks whether some of the failed constraints found are not reported as the number of the failed constraints
+     * exceeded the limit.
+     *
+     * @return {@code true} if the failed constraints are truncated
+     */
+    public boolean isTruncated() {
+        return failureCount > failedConstraintsInfo.size();
+    }
+}
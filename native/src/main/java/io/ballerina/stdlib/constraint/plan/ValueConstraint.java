@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.plan;
+
+import static io.ballerina.stdlib.constraint.Constants.CONSTRAINT_MAX_VALUE;
+import static io.ballerina.stdlib.constraint.Constants.CONSTRAINT_MAX_VALUE_EXCLUSIVE;
+import static io.ballerina.stdlib.constraint.Constants.CONSTRAINT_MIN_VALUE;
+import static io.ballerina.stdlib.constraint.Constants.CONSTRAINT_MIN_VALUE_EXCLUSIVE;
+
+/**
+ * Represents the value related constraints.
+ */
+enum ValueConstraint {
+    MIN_VALUE(CONSTRAINT_MIN_VALUE),
+    MAX_VALUE(CONSTRAINT_MAX_VALUE),
+    MIN_VALUE_EXCLUSIVE(CONSTRAINT_MIN_VALUE_EXCLUSIVE),
+    MAX_VALUE_EXCLUSIVE(CONSTRAINT_MAX_VALUE_EXCLUSIVE);
+
+    private final String constraintName;
+
+    ValueConstraint(String constraintName) {
+        this.constraintName = constraintName;
+    }
+
+    String getConstraintName() {
+        return constraintName;
+    }
+
+    boolean isSatisfied(long value, long bound) {
+        switch (this) {
+            case MIN_VALUE:
+                return value >= bound;
+            case MAX_VALUE:
+                return value <= bound;
+            case MIN_VALUE_EXCLUSIVE:
+                return value > bound;
+            default:
+                return value < bound;
+        }
+    }
+
+    boolean isSatisfied(double value, double bound) {
+        switch (this) {
+            case MIN_VALUE:
+                return value >= bound;
+            case MAX_VALUE:
+                return value <= bound;
+            case MIN_VALUE_EXCLUSIVE:
+                return value > bound;
+            default:
+                return value < bound;
+        }
+    }
+
+    /**
+     * Checks whether the constraint is satisfied by a value, given the result of comparing the value to the bound.
+     *
+     * @param comparison a negative integer, zero, or a positive integer as the value is less than, equal to, or
+     *                   greater than the bound
+     * @return {@code true} if the constraint is satisfied
+     */
+    boolean isSatisfied(int comparison) {
+        switch (this) {
+            case MIN_VALUE:
+                return comparison >= 0;
+            case MAX_VALUE:
+                return comparison <= 0;
+            case MIN_VALUE_EXCLUSIVE:
+                return comparison > 0;
+            default:
+                return comparison < 0;
+        }
+    }
+
+    /**
+     * Returns the lower bound of the values satisfying all the given constraints.
+     *
+     * @param constraints the constraints
+     * @param bounds      the bounds of the constraints
+     * @return the smallest value satisfying the lower bound constraints, or {@code NaN} if no value satisfies them
+     */
+    static double getMinValue(ValueConstraint[] constraints, double[] bounds) {
+        double min = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < constraints.length; i++) {
+            if (constraints[i] == MIN_VALUE) {
+                min = Math.max(min, bounds[i]);
+            } else if (constraints[i] == MIN_VALUE_EXCLUSIVE) {
+                // No value is greater than the positive infinity, hence the range is made empty with NaN
+                min = Math.max(min, bounds[i] == Double.POSITIVE_INFINITY ? Double.NaN : Math.nextUp(bounds[i]));
+            }
+        }
+        return min;
+    }
+
+    /**
+     * Returns the upper bound of the values satisfying all the given constraints.
+     *
+     * @param constraints the constraints
+     * @param bounds      the bounds of the constraints
+     * @return the largest value satisfying the upper bound constraints, or {@code NaN} if no value satisfies them
+     */
+    static double getMaxValue(ValueConstraint[] constraints, double[] bounds) {
+        double max = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < constraints.length; i++) {
+            if (constraints[i] == MAX_VALUE) {
+                max = Math.min(max, bounds[i]);
+            } else if (constraints[i] == MAX_VALUE_EXCLUSIVE) {
+                max = Math.min(max, bounds[i] == Double.NEGATIVE_INFINITY ? Double.NaN : Math.nextDown(bounds[i]));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the lower bound of the int values satisfying all the given constraints.
+     *
+     * @param constraints the constraints
+     * @param bounds      the bounds of the constraints
+     * @return the smallest value satisfying the lower bound constraints, or {@link Long#MAX_VALUE} if no value
+     * satisfies the constraints, which is greater than the upper bound returned by {@link #getMaxValue} in that case
+     */
+    static long getMinValue(ValueConstraint[] constraints, long[] bounds) {
+        if (hasNoIntValue(constraints, bounds)) {
+            return Long.MAX_VALUE;
+        }
+        long min = Long.MIN_VALUE;
+        for (int i = 0; i < constraints.length; i++) {
+            if (constraints[i] == MIN_VALUE) {
+                min = Math.max(min, bounds[i]);
+            } else if (constraints[i] == MIN_VALUE_EXCLUSIVE) {
+                min = Math.max(min, bounds[i] + 1);
+            }
+        }
+        return min;
+    }
+
+    /**
+     * Returns the upper bound of the int values satisfying all the given constraints.
+     *
+     * @param constraints the constraints
+     * @param bounds      the bounds of the constraints
+     * @return the largest value satisfying the upper bound constraints, or {@link Long#MIN_VALUE} if no value
+     * satisfies the constraints, which is less than the lower bound returned by {@link #getMinValue} in that case
+     */
+    static long getMaxValue(ValueConstraint[] constraints, long[] bounds) {
+        if (hasNoIntValue(constraints, bounds)) {
+            return Long.MIN_VALUE;
+        }
+        long max = Long.MAX_VALUE;
+        for (int i = 0; i < constraints.length; i++) {
+            if (constraints[i] == MAX_VALUE) {
+                max = Math.min(max, bounds[i]);
+            } else if (constraints[i] == MAX_VALUE_EXCLUSIVE) {
+                max = Math.min(max, bounds[i] - 1);
+            }
+        }
+        return max;
+    }
+
+    // No int value is greater than the maximum value or less than the minimum value
+    private static boolean hasNoIntValue(ValueConstraint[] constraints, long[] bounds) {
+        for (int i = 0; i < constraints.length; i++) {
+            if ((constraints[i] == MIN_VALUE_EXCLUSIVE && bounds[i] == Long.MAX_VALUE) ||
+                    (constraints[i] == MAX_VALUE_EXCLUSIVE && bounds[i] == Long.MIN_VALUE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static ValueConstraint fromConstraintName(String constraintName) {
+        switch (constraintName) {
+            case CONSTRAINT_MIN_VALUE:
+                return MIN_VALUE;
+            case CONSTRAINT_MAX_VALUE:
+                return MAX_VALUE;
+            case CONSTRAINT_MIN_VALUE_EXCLUSIVE:
+                return MIN_VALUE_EXCLUSIVE;
+            case CONSTRAINT_MAX_VALUE_EXCLUSIVE:
+                return MAX_VALUE_EXCLUSIVE;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.validators;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.constraint.InternalValidationException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.ballerina.stdlib.constraint.Constants.DATE_RECORD_DAY_BSTRING;
+import static io.ballerina.stdlib.constraint.Constants.DATE_RECORD_MONTH_BSTRING;
+import static io.ballerina.stdlib.constraint.Constants.DATE_RECORD_YEAR_BSTRING;
+import static io.ballerina.stdlib.constraint.Constants.DAY;
+import static io.ballerina.stdlib.constraint.Constants.MONTH;
+import static io.ballerina.stdlib.constraint.Constants.YEAR;
+
+/**
+ * Utility functions to validate the fields of a civil date and to convert it to an epoch day, as done by
+ * {@link LocalDate}, without creating a {@link LocalDate} or relying on exceptions for the invalid dates.
+ */
+public final class CivilDate {
+
+    // The epoch day of an invalid date, which is out of the range of the epoch days of the valid dates
+    public static final long INVALID_EPOCH_DAY = Long.MIN_VALUE;
+
+    private static final long MIN_YEAR = LocalDate.MIN.getYear();
+    private static final long MAX_YEAR = LocalDate.MAX.getYear();
+    private static final long MIN_MONTH = 1;
+    private static final long MAX_MONTH = 12;
+    private static final long MIN_DAY = 1;
+    private static final long MAX_DAY = 31;
+    private static final long DAYS_0000_TO_1970 = (146097 * 5L) - (30L * 365L + 7L);
+
+    private CivilDate() {
+    }
+
+    /**
+     * Converts a `time:Date` record to the number of days since 1970-01-01.
+     *
+     * @param dateValue the date record
+     * @return the epoch day of the date or {@link #INVALID_EPOCH_DAY} if the fields are not a valid date
+     */
+    public static long getEpochDay(Object dateValue) {
+        BMap<BString, Object> date = toDateRecord(dateValue);
+        long year = date.getIntValue(DATE_RECORD_YEAR_BSTRING);
+        long month = date.getIntValue(DATE_RECORD_MONTH_BSTRING);
+        long day = date.getIntValue(DATE_RECORD_DAY_BSTRING);
+        if (!isValidYear(year) || !isValidMonth(month) || !isValidDay(day) || !isValidDate(year, month, day)) {
+            return INVALID_EPOCH_DAY;
+        }
+        return toEpochDay(year, month, day);
+    }
+
+    /**
+     * Returns the names of the invalid fields of a `time:Date` record. The day is invalid also when the other fields
+     * are valid but the day does not exist in the month.
+     *
+     * @param dateValue the date record
+     * @return the names of the invalid fields, in the order of year, month and day
+     */
+    public static List<String> getInvalidFields(Object dateValue) {
+        BMap<BString, Object> date = toDateRecord(dateValue);
+        long year = date.getIntValue(DATE_RECORD_YEAR_BSTRING);
+        long month = date.getIntValue(DATE_RECORD_MONTH_BSTRING);
+        long day = date.getIntValue(DATE_RECORD_DAY_BSTRING);
+        List<String> invalidFields = new ArrayList<>(3);
+        if (!isValidYear(year)) {
+            invalidFields.add(YEAR);
+        }
+        if (!isValidMonth(month)) {
+            invalidFields.add(MONTH);
+        }
+        if (!isValidDay(day)) {
+            invalidFields.add(DAY);
+        }
+        if (invalidFields.isEmpty() && !isValidDate(year, month, day)) {
+            invalidFields.add(DAY);
+        }
+        return invalidFields;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BMap<BString, Object> toDateRecord(Object dateValue) {
+        if (!(dateValue instanceof BMap)) {
+            throw new InternalValidationException("Invalid field type found for constraint:Date");
+        }
+        return (BMap<BString, Object>) dateValue;
+    }
+
+    public static boolean isValidYear(long year) {
+        return year >= MIN_YEAR && year <= MAX_YEAR;
+    }
+
+    public static boolean isValidMonth(long month) {
+        return month >= MIN_MONTH && month <= MAX_MONTH;
+    }
+
+    public static boolean isValidDay(long day) {
+        return day >= MIN_DAY && day <= MAX_DAY;
+    }
+
+    /**
+     * Checks whether the day exists in the month of the year. The fields are expected to be valid on their own.
+     *
+     * @param year  the year
+     * @param month the month of the year
+     * @param day   the day of the month
+     * @return {@code true} if the date exists
+     */
+    public static boolean isValidDate(long year, long month, long day) {
+        return day <= getLengthOfMonth(year, month);
+    }
+
+    /**
+     * Converts a valid date to the number of days since 1970-01-01.
+     *
+     * @param year  the year
+     * @param month the month of the year
+     * @param day   the day of the month
+     * @return the epoch day of the date
+     */
+    public static long toEpochDay(long year, long month, long day) {
+        long total = 365 * year;
+        if (year >= 0) {
+            total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        } else {
+            total -= year / -4 - year / -100 + year / -400;
+        }
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    private static long getLengthOfMonth(long year, long month) {
+        if (month == 2) {
+            return isLeapYear(year) ? 29 : 28;
+        } else if (month == 4 || month == 6 || month == 9 || month == 11) {
+            return 30;
+        }
+        return 31;
+    }
+
+    private static boolean isLeapYear(long year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+}
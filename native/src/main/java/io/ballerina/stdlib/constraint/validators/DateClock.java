@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.constraint.validators;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Provides the current date to the date constraints as an epoch day. The current date is resolved once per day in
+ * the time zone of the clock and reused until the end of the day, so that it does not resolve the time zone rules
+ * or allocate on each validation. The clock defaults to the system clock in the default time zone and it can be
+ * replaced, for example to pin the current date.
+ */
+public final class DateClock {
+
+    private static volatile Clock clock = Clock.systemDefaultZone();
+    private static volatile Today today;
+
+    private DateClock() {
+    }
+
+    /**
+     * Replaces the clock which provides the current date.
+     *
+     * @param clock the clock to be used
+     */
+    public static void setClock(Clock clock) {
+        DateClock.clock = clock;
+    }
+
+    /**
+     * Returns the current date as the number of days since 1970-01-01.
+     *
+     * @return the epoch day of the current date
+     */
+    public static long getTodayEpochDay() {
+        Clock currentClock = clock;
+        long now = currentClock.millis();
+        Today currentToday = today;
+        if (currentToday == null || currentToday.clock != currentClock || now < currentToday.startMillis ||
+                now >= currentToday.endMillis) {
+            currentToday = new Today(currentClock, now);
+            today = currentToday;
+        }
+        return currentToday.epochDay;
+    }
+
+    /**
+     * Represents the current date along with the period it remains the current date.
+     */
+    private static final class Today {
+
+        private final Clock clock;
+        private final long epochDay;
+        private final long startMillis;
+        private final long endMillis;
+
+        Today(Clock clock, long now) {
+            ZoneId zone = clock.getZone();
+            LocalDate date = Instant.ofEpochMilli(now).atZone(zone).toLocalDate();
+            this.clock = clock;
+            this.epochDay = date.toEpochDay();
+            this.startMillis = date.atStartOfDay(zone).toInstant().toEpochMilli();
+            this.endMillis = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        }
+    }
+}